@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -29,12 +30,14 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long priority;
     private volatile boolean running;
 
     BuildContext(final StepInfo stepInfo, final Execution execution) {
         this.stepInfo = stepInfo;
         this.execution = execution;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
+        priority = execution.getCriticalPath(stepInfo);
     }
 
     /**
@@ -398,15 +401,23 @@ public final class BuildContext {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
+    /**
+     *
+     * @return the expected wall time of the longest path from this step to the end of the build chain
+     */
+    long getPriority() {
+        return priority;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -425,7 +436,9 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long duration = System.nanoTime() - start;
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(duration));
+            execution.stepFinished(stepInfo, start, duration);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
@@ -1,5 +1,6 @@
 package io.quarkus.builder;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +22,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Path stepProfile;
+    private Path timelineReport;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -111,6 +114,29 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Set the file used to persist the wall time of the build steps. The recorded values are used to prioritize the build
+     * steps on the critical path of the build chain in later executions.
+     *
+     * @param stepProfile the profile file, or {@code null} to disable the profile
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepProfile(Path stepProfile) {
+        this.stepProfile = stepProfile;
+        return this;
+    }
+
+    /**
+     * Set the file the build step timeline is written to, in the Chrome trace event format.
+     *
+     * @param timelineReport the report file, or {@code null} to disable the report
+     * @return this builder
+     */
+    public BuildExecutionBuilder setTimelineReport(Path timelineReport) {
+        this.timelineReport = timelineReport;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -155,4 +181,12 @@ public final class BuildExecutionBuilder {
     BuildChain getChain() {
         return buildChain;
     }
+
+    Path getStepProfile() {
+        return stepProfile;
+    }
+
+    Path getTimelineReport() {
+        return timelineReport;
+    }
 }
@@ -3,11 +3,18 @@ package io.quarkus.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +33,8 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    private static final int MIN_THREADS = 8;
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multis;
@@ -36,6 +45,15 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    // Steps with all dependencies finished, the step with the longest critical path first
+    private final PriorityBlockingQueue<BuildContext> ready = new PriorityBlockingQueue<>(16,
+            (c1, c2) -> Long.compare(c2.getPriority(), c1.getPriority()));
+    private final Map<StepInfo, Long> criticalPaths = new HashMap<>();
+    private final Queue<StepTiming> timings = new ConcurrentLinkedQueue<>();
+    private final StepProfile profile;
+    private final Path stepProfile;
+    private final Path timelineReport;
+    private volatile long start;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -44,8 +62,16 @@ final class Execution {
         this.singles = new ConcurrentHashMap<>(builder.getInitialSingle());
         this.multis = new ConcurrentHashMap<>(builder.getInitialMulti());
         this.finalIds = finalIds;
+        this.stepProfile = builder.getStepProfile();
+        this.timelineReport = builder.getTimelineReport();
+        this.profile = stepProfile != null ? StepProfile.load(stepProfile) : StepProfile.empty();
+        for (StepInfo startStep : chain.getStartSteps()) {
+            computeCriticalPath(startStep);
+        }
         final EnhancedQueueExecutor.Builder executorBuilder = new EnhancedQueueExecutor.Builder();
-        executorBuilder.setCorePoolSize(8).setMaximumPoolSize(1024);
+        // Some build steps perform blocking I/O so keep at least 8 threads even on small machines
+        final int threads = max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        executorBuilder.setCorePoolSize(threads).setMaximumPoolSize(max(threads, 1024));
         executorBuilder.setExceptionHandler(JBossExecutors.loggingExceptionHandler());
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
@@ -70,11 +96,12 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        this.start = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -102,6 +129,7 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        writeReports();
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -120,6 +148,66 @@ final class Execution {
                 max(0, System.nanoTime() - start));
     }
 
+    /**
+     * Computes the expected wall time of the longest path from the given step to the end of the build chain.
+     */
+    private long computeCriticalPath(StepInfo stepInfo) {
+        Long criticalPath = criticalPaths.get(stepInfo);
+        if (criticalPath != null) {
+            return criticalPath;
+        }
+        long longestDependent = 0;
+        for (StepInfo dependent : stepInfo.getDependents()) {
+            longestDependent = max(longestDependent, computeCriticalPath(dependent));
+        }
+        long result = profile.getCost(stepInfo.getBuildStep()) + longestDependent;
+        criticalPaths.put(stepInfo, result);
+        return result;
+    }
+
+    long getCriticalPath(StepInfo stepInfo) {
+        Long criticalPath = criticalPaths.get(stepInfo);
+        return criticalPath != null ? criticalPath : 0;
+    }
+
+    void schedule(BuildContext buildContext) {
+        ready.add(buildContext);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        // Each scheduled step submits one task, so there is always a step ready
+        final BuildContext next = ready.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long stepStart, long duration) {
+        timings.add(new StepTiming(stepInfo.getBuildStep().toString(), Thread.currentThread().getName(), stepStart - start,
+                duration));
+    }
+
+    private void writeReports() {
+        if (stepProfile != null && !isErrorReported()) {
+            try {
+                profile.update(timings).store(stepProfile);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to store the build step profile to %s", stepProfile);
+            }
+        }
+        if (timelineReport != null) {
+            final List<StepTiming> sorted = new ArrayList<>(timings);
+            sorted.sort((t1, t2) -> Long.compare(t1.getStart(), t2.getStart()));
+            try {
+                TimelineReport.write(timelineReport, buildTargetName, sorted);
+                log.infof("Build timeline report written to %s", timelineReport);
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write the build timeline report to %s", timelineReport);
+            }
+        }
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
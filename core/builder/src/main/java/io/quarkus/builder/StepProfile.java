@@ -0,0 +1,99 @@
+package io.quarkus.builder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The wall time of build steps recorded by previous builds, keyed by the build step name.
+ */
+final class StepProfile {
+
+    /**
+     * The cost assumed for a step that was never recorded.
+     */
+    static final long DEFAULT_COST = 1000L;
+
+    private final Map<String, Long> costs;
+
+    private StepProfile(Map<String, Long> costs) {
+        this.costs = costs;
+    }
+
+    static StepProfile empty() {
+        return new StepProfile(new ConcurrentHashMap<>());
+    }
+
+    static StepProfile load(Path file) {
+        Map<String, Long> costs = new ConcurrentHashMap<>();
+        if (file != null && Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                Execution.log.debugf(e, "Unable to read the build step profile from %s", file);
+                return empty();
+            }
+            for (String name : properties.stringPropertyNames()) {
+                try {
+                    costs.put(name, Long.parseLong(properties.getProperty(name)));
+                } catch (NumberFormatException e) {
+                    // Ignore invalid entries
+                }
+            }
+        }
+        return new StepProfile(costs);
+    }
+
+    /**
+     *
+     * @param step
+     * @return the expected wall time of the step in microseconds
+     */
+    long getCost(BuildStep step) {
+        Long cost = costs.get(step.toString());
+        return cost != null ? cost : DEFAULT_COST;
+    }
+
+    /**
+     * Creates a new profile from the steps executed in the current build. The recorded wall time is averaged with the
+     * previous value so that a single slow build does not reorder the steps completely.
+     *
+     * @param timings
+     * @return the updated profile
+     */
+    StepProfile update(Iterable<StepTiming> timings) {
+        Map<String, Long> updated = new ConcurrentHashMap<>();
+        for (StepTiming timing : timings) {
+            String name = timing.getName();
+            long micros = timing.getDuration() / 1000L;
+            Long previous = costs.get(name);
+            updated.put(name, previous != null ? (previous + micros) / 2 : micros);
+        }
+        return new StepProfile(updated);
+    }
+
+    void store(Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Wall time of build steps in microseconds");
+            writer.newLine();
+            Properties properties = new Properties();
+            for (Map.Entry<String, Long> entry : new TreeMap<>(costs).entrySet()) {
+                properties.setProperty(entry.getKey(), entry.getValue().toString());
+            }
+            properties.store(writer, null);
+        }
+    }
+
+}
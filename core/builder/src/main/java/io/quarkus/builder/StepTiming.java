@@ -0,0 +1,43 @@
+package io.quarkus.builder;
+
+/**
+ * The wall time of a single build step execution.
+ */
+final class StepTiming {
+
+    private final String name;
+    private final String thread;
+    private final long start;
+    private final long duration;
+
+    StepTiming(final String name, final String thread, final long start, final long duration) {
+        this.name = name;
+        this.thread = thread;
+        this.start = start;
+        this.duration = duration;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getThread() {
+        return thread;
+    }
+
+    /**
+     *
+     * @return the start time in nanoseconds, relative to the start of the build
+     */
+    long getStart() {
+        return start;
+    }
+
+    /**
+     *
+     * @return the duration in nanoseconds
+     */
+    long getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.builder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the build step timings in the Chrome trace event format, which can be opened in {@code chrome://tracing}.
+ */
+final class TimelineReport {
+
+    private TimelineReport() {
+    }
+
+    static void write(Path file, String buildTargetName, List<StepTiming> timings) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Map<String, Integer> threadIds = new HashMap<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[");
+            boolean first = true;
+            for (StepTiming timing : timings) {
+                Integer tid = threadIds.computeIfAbsent(timing.getThread(), t -> threadIds.size() + 1);
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.newLine();
+                writer.write("{\"name\":\"");
+                writer.write(escape(timing.getName()));
+                writer.write("\",\"cat\":\"");
+                writer.write(escape(buildTargetName));
+                writer.write("\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+                writer.write(tid.toString());
+                writer.write(",\"ts\":");
+                writer.write(Long.toString(timing.getStart() / 1000L));
+                writer.write(",\"dur\":");
+                writer.write(Long.toString(timing.getDuration() / 1000L));
+                writer.write('}');
+            }
+            for (Map.Entry<String, Integer> entry : threadIds.entrySet()) {
+                writer.write(',');
+                writer.newLine();
+                writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+                writer.write(entry.getValue().toString());
+                writer.write(",\"args\":{\"name\":\"");
+                writer.write(escape(entry.getKey()));
+                writer.write("\"}}");
+            }
+            writer.newLine();
+            writer.write("]}");
+            writer.newLine();
+        }
+    }
+
+    static String escape(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.toString();
+    }
+}
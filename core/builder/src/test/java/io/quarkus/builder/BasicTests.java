@@ -1,11 +1,24 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -232,4 +245,82 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testStepProfileAndTimeline() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "produceDummy2";
+            }
+        });
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem2.class);
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "produceDummy";
+            }
+        });
+        stepBuilder.consumes(DummyItem2.class);
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem.class);
+        final BuildChain chain = builder.build();
+        final Path dir = Files.createTempDirectory("quarkus-builder");
+        try {
+            final Path profile = dir.resolve("profile.properties");
+            final Path timeline = dir.resolve("timeline.json");
+            chain.createExecutionBuilder("my-app.jar").setStepProfile(profile).setTimelineReport(timeline).execute();
+
+            // Every step has a wall time in the profile
+            final Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(profile)) {
+                properties.load(reader);
+            }
+            assertEquals(2, properties.size());
+            assertTrue(Long.parseLong(properties.getProperty("produceDummy2")) >= 10000);
+            assertTrue(Long.parseLong(properties.getProperty("produceDummy")) >= 0);
+
+            // The timeline lists the steps of the chain in execution order, each with its duration
+            final String report = new String(Files.readAllBytes(timeline), StandardCharsets.UTF_8);
+            assertTrue(report.startsWith("{\"traceEvents\":["));
+            final Matcher matcher = Pattern
+                    .compile("\\{\"name\":\"([^\"]+)\",\"cat\":\"my-app.jar\",\"ph\":\"X\",\"pid\":1,\"tid\":\\d+,"
+                            + "\"ts\":(\\d+),\"dur\":(\\d+)\\}")
+                    .matcher(report);
+            final List<String> names = new ArrayList<>();
+            final List<long[]> times = new ArrayList<>();
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+                times.add(new long[] { Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3)) });
+            }
+            assertEquals(Arrays.asList("produceDummy2", "produceDummy"), names);
+            assertTrue(times.get(0)[1] >= 10000);
+            // The dependent step starts once its dependency has finished, the values are truncated to microseconds
+            assertTrue(times.get(1)[0] >= times.get(0)[0] + times.get(0)[1] - 1);
+
+            // The existing profile is loaded by the next execution
+            chain.createExecutionBuilder("my-app.jar").setStepProfile(profile).execute();
+        } finally {
+            Files.walk(dir).sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
 }
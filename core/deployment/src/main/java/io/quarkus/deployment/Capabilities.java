@@ -16,6 +16,7 @@ public final class Capabilities extends SimpleBuildItem {
     public static final String JSONB = "io.quarkus.jsonb";
     public static final String RESTEASY_JSON_EXTENSION = "io.quarkus.resteasy-json";
     public static final String SECURITY = "io.quarkus.security";
+    public static final String METRICS = "io.quarkus.metrics";
 
     private final Set<String> capabilities;
 
@@ -4,6 +4,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -39,6 +40,9 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String BUILD_STEP_PROFILE = "quarkus-build-step-profile.properties";
+    private static final String BUILD_TIMELINE = System.getProperty("quarkus.debug.build-timeline-file");
+
     private final ClassLoader classLoader;
     private final Path root;
     private final Set<Class<? extends BuildItem>> finalResults;
@@ -126,6 +130,12 @@ public class QuarkusAugmentor {
             for (Path i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            if (targetDir != null) {
+                execBuilder.setStepProfile(targetDir.resolve(BUILD_STEP_PROFILE));
+            }
+            if (BUILD_TIMELINE != null) {
+                execBuilder.setTimelineReport(Paths.get(BUILD_TIMELINE));
+            }
             BuildResult buildResult = execBuilder
                     .execute();
             log.info("Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms");
@@ -10,11 +10,25 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final String classToTransform;
     final BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction;
+    final String cacheKey;
 
     public BytecodeTransformerBuildItem(String classToTransform,
             BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction) {
+        this(classToTransform, visitorFunction, null);
+    }
+
+    /**
+     * @param classToTransform the name of the class to transform
+     * @param visitorFunction the transformation
+     * @param cacheKey a key that describes everything the result of the transformation depends on, apart from the bytecode
+     *        of the transformed class and the implementation of the visitor function. If it is {@code null} the result of
+     *        the transformation is never cached.
+     */
+    public BytecodeTransformerBuildItem(String classToTransform,
+            BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction, String cacheKey) {
         this.classToTransform = classToTransform;
         this.visitorFunction = visitorFunction;
+        this.cacheKey = cacheKey;
     }
 
     public String getClassToTransform() {
@@ -24,4 +38,8 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
     public BiFunction<String, ClassVisitor, ClassVisitor> getVisitorFunction() {
         return visitorFunction;
     }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
 }
@@ -43,6 +43,7 @@ import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -81,7 +82,7 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext, OutputTargetBuildItem outputTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -90,12 +91,13 @@ public class ApplicationArchiveBuildStep {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            indexCache = new IndexCache(PersistentIndexCache.of(outputTarget.getOutputDirectory()));
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
+        indexCache.persistent.prune();
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getArchiveRoot(), null, false, root.getArchiveLocation()),
                 applicationArchives);
@@ -258,13 +260,13 @@ public class ApplicationArchiveBuildStep {
                                 LOGGER.warnf(
                                         "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
                                         path);
-                                return indexJar(file);
+                                return indexJar(path, file, indexCache.persistent);
                             } else {
                                 return reader.read();
                             }
                         }
                     }
-                    return indexJar(file);
+                    return indexJar(path, file, indexCache.persistent);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -272,6 +274,21 @@ public class ApplicationArchiveBuildStep {
         });
     }
 
+    private static Index indexJar(Path path, JarFile file, PersistentIndexCache persistent) throws IOException {
+        if (!persistent.isEnabled()) {
+            return indexJar(file);
+        }
+        String key = persistent.key(path);
+        Index index = persistent.read(key);
+        if (index != null) {
+            LOGGER.debugf("Loaded cached index of %s", path);
+            return index;
+        }
+        index = indexJar(file);
+        persistent.write(key, index);
+        return index;
+    }
+
     private static Index indexJar(JarFile file) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
@@ -289,10 +306,19 @@ public class ApplicationArchiveBuildStep {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * Archives without a usable Jandex index are additionally cached on disk, so that subsequent builds and dev mode
+     * restarts do not need to scan them again as long as their content does not change.
      */
     private static final class IndexCache {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        final PersistentIndexCache persistent;
+
+        IndexCache(PersistentIndexCache persistent) {
+            this.persistent = persistent;
+        }
+
     }
 }
@@ -0,0 +1,162 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of Jandex indexes for dependency archives that do not ship a usable {@code META-INF/jandex.idx}.
+ * <p>
+ * Entries are keyed by a digest of the archive content, so an archive that has not changed between builds is
+ * loaded from its serialized index instead of being scanned class by class again. Any problem reading or writing
+ * the cache is logged and the archive is simply indexed from scratch.
+ * <p>
+ * The entries of the archives that are no longer used are removed by {@link #prune()}, so the cache only holds the
+ * indexes of the current dependencies.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    static final String CACHE_DIR = "quarkus-index-cache";
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param outputDirectory the build output directory, may be {@code null}
+     * @return a cache stored under the output directory, or a disabled cache if there is none
+     */
+    static PersistentIndexCache of(Path outputDirectory) {
+        return new PersistentIndexCache(outputDirectory == null ? null : outputDirectory.resolve(CACHE_DIR));
+    }
+
+    boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @param archive the archive
+     * @return the content key of the archive, or {@code null} if the cache is disabled or the key cannot be computed
+     */
+    String key(Path archive) {
+        if (directory == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(archive)) {
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, r);
+                }
+            }
+            StringBuilder sb = new StringBuilder(40);
+            for (byte b : digest.digest()) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            String key = sb.toString();
+            usedKeys.add(key);
+            return key;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.debugf(e, "Unable to compute the index cache key of %s", archive);
+            return null;
+        }
+    }
+
+    /**
+     * @param key the content key
+     * @return the cached index or {@code null} if there is no usable entry for the given key
+     */
+    Index read(String key) {
+        if (key == null) {
+            return null;
+        }
+        Path entry = directory.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(entry)) {
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Discarding unreadable index cache entry %s", entry);
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Stores the index for the given key. The entry is written to a temporary file first so that concurrent builds
+     * never observe a partially written entry.
+     *
+     * @param key the content key
+     * @param index the index
+     */
+    void write(String key, Index index) {
+        if (key == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, directory.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to store index cache entry %s", key);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose key was not computed since this cache was created, i.e. the indexes of archives that
+     * are no longer dependencies or whose content changed.
+     */
+    void prune() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (!usedKeys.contains(name.substring(0, name.length() - SUFFIX.length()))) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to prune the index cache %s", directory);
+        }
+    }
+}
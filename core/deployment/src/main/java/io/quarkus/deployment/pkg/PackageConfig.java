@@ -42,4 +42,14 @@ public class PackageConfig {
      */
     @ConfigItem(defaultValue = "-runner")
     public String runnerSuffix;
+
+    /**
+     * Whether to create an AppCDS archive for the runner jar, which reduces the JVM startup time.
+     *
+     * The application is started once during the build to record the classes that are loaded at startup, so it must be
+     * able to start in the build environment. This requires the build to run on Java 11 or newer, and the archive can only
+     * be used with the same JVM.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean createAppcds;
 }
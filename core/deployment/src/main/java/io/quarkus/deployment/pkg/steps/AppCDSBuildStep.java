@@ -0,0 +1,143 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.Application;
+
+/**
+ * Creates an AppCDS archive for the runner jar.
+ *
+ * The application is started once with {@code -XX:DumpLoadedClassList} and stops as soon as it has started, which gives
+ * us the list of classes needed at startup. This list is then dumped into a shared archive next to the runner jar.
+ * Both JVM invocations are run from the output directory with {@code -jar}, so that the recorded class path matches
+ * the one of {@code java -XX:SharedArchiveFile=app-cds.jsa -jar <runner jar>} run from the same directory.
+ */
+public class AppCDSBuildStep {
+
+    private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
+
+    public static final String CLASSES_LIST_FILE_NAME = "classes.lst";
+    public static final String APP_CDS_FILE_NAME = "app-cds.jsa";
+
+    static final int MIN_JAVA_VERSION = 11;
+
+    private static final boolean IS_WINDOWS = System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("windows");
+
+    @BuildStep(onlyIf = AppCDSRequired.class)
+    public AppCDSResultBuildItem build(OutputTargetBuildItem outputTargetBuildItem, JarBuildItem jarBuildItem)
+            throws Exception {
+        if (!isAppCDSSupported(System.getProperty("java.specification.version"))) {
+            log.warnf("Unable to create an AppCDS archive, at least Java %d is needed to build the application",
+                    MIN_JAVA_VERSION);
+            return null;
+        }
+        Path outputDir = outputTargetBuildItem.getOutputDirectory();
+        String jarName = jarBuildItem.getPath().getFileName().toString();
+        String java = Paths.get(System.getProperty("java.home"), "bin", IS_WINDOWS ? "java.exe" : "java").toString();
+
+        Path classesList = outputDir.resolve(CLASSES_LIST_FILE_NAME);
+        Path appCDS = outputDir.resolve(APP_CDS_FILE_NAME);
+        Files.deleteIfExists(classesList);
+        Files.deleteIfExists(appCDS);
+
+        log.info("Launching the application to record the classes loaded at startup");
+        run(outputDir, "Recording the loaded classes failed", dumpClassListCommand(java, jarName));
+        if (!Files.exists(classesList)) {
+            throw new RuntimeException("The class list " + classesList + " was not created");
+        }
+
+        log.info("Creating the AppCDS archive " + appCDS);
+        run(outputDir, "Creating the AppCDS archive failed", dumpArchiveCommand(java, jarName));
+        Files.delete(classesList);
+        if (!Files.exists(appCDS)) {
+            throw new RuntimeException("The AppCDS archive " + appCDS + " was not created");
+        }
+
+        log.infof("AppCDS archive created, run the application from %s with: java -XX:SharedArchiveFile=%s -jar %s",
+                outputDir, APP_CDS_FILE_NAME, jarName);
+        return new AppCDSResultBuildItem(appCDS);
+    }
+
+    /**
+     * @param specificationVersion the value of the {@code java.specification.version} system property, e.g. {@code 1.8}
+     *        or {@code 11}
+     * @return whether the JVM of that version can create an AppCDS archive of the application classes
+     */
+    static boolean isAppCDSSupported(String specificationVersion) {
+        return javaMajorVersion(specificationVersion) >= MIN_JAVA_VERSION;
+    }
+
+    static int javaMajorVersion(String specificationVersion) {
+        String version = specificationVersion.startsWith("1.") ? specificationVersion.substring(2) : specificationVersion;
+        int end = 0;
+        while (end < version.length() && Character.isDigit(version.charAt(end))) {
+            end++;
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("Unable to parse the Java version " + specificationVersion);
+        }
+        return Integer.parseInt(version.substring(0, end));
+    }
+
+    /**
+     * @return the command starting the application to record the classes it loads at startup into
+     *         {@link #CLASSES_LIST_FILE_NAME}
+     */
+    static List<String> dumpClassListCommand(String java, String jarName) {
+        return Arrays.asList(java,
+                "-XX:DumpLoadedClassList=" + CLASSES_LIST_FILE_NAME,
+                "-D" + Application.GENERATE_APP_CDS_SYSTEM_PROPERTY + "=true",
+                "-jar", jarName);
+    }
+
+    /**
+     * @return the command dumping the classes of {@link #CLASSES_LIST_FILE_NAME} into {@link #APP_CDS_FILE_NAME}
+     */
+    static List<String> dumpArchiveCommand(String java, String jarName) {
+        return Arrays.asList(java,
+                "-Xshare:dump",
+                "-XX:SharedClassListFile=" + CLASSES_LIST_FILE_NAME,
+                "-XX:SharedArchiveFile=" + APP_CDS_FILE_NAME,
+                "-jar", jarName);
+    }
+
+    private static void run(Path directory, String failure, List<String> command) throws Exception {
+        log.debug(String.join(" ", command));
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.directory(directory.toFile());
+        pb.redirectInput(ProcessBuilder.Redirect.INHERIT);
+        pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = pb.start();
+        if (process.waitFor() != 0) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    static class AppCDSRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+
+        AppCDSRequired(PackageConfig packageConfig) {
+            this.packageConfig = packageConfig;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return packageConfig.createAppcds && packageConfig.type.equalsIgnoreCase(PackageConfig.JAR);
+        }
+    }
+}
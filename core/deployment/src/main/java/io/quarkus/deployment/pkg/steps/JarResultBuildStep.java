@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -56,6 +57,7 @@ import io.quarkus.deployment.builditem.GeneratedNativeImageClassBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
@@ -112,13 +114,15 @@ public class JarResultBuildStep {
     private static final OpenOption[] DEFAULT_OPEN_OPTIONS = { TRUNCATE_EXISTING, WRITE, CREATE };
 
     @BuildStep(onlyIf = JarRequired.class)
-    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem) {
+    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem, Optional<AppCDSResultBuildItem> appCDS) {
+        Map<String, Path> additionalPaths = new HashMap<>();
         if (jarBuildItem.getLibraryDir() != null) {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR,
-                    Collections.singletonMap("library-dir", jarBuildItem.getLibraryDir()));
-        } else {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR, Collections.emptyMap());
+            additionalPaths.put("library-dir", jarBuildItem.getLibraryDir());
+        }
+        if (appCDS.isPresent()) {
+            additionalPaths.put("appcds", appCDS.get().getAppCDS());
         }
+        return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR, additionalPaths);
     }
 
     @BuildStep
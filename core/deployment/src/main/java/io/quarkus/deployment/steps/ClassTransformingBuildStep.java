@@ -1,8 +1,19 @@
 package io.quarkus.deployment.steps;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,7 +27,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.function.BiFunction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
 import org.objectweb.asm.ClassReader;
@@ -29,72 +40,89 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 
 public class ClassTransformingBuildStep {
 
     private static final Logger log = Logger.getLogger(ClassTransformingBuildStep.class);
 
+    private static final String CACHE_DIR = "quarkus-transformer-cache";
+
+    /**
+     * The pool is shared by all the builds of this JVM, so that dev mode restarts don't need to start new threads.
+     */
+    private static volatile ExecutorService executor;
+
     @BuildStep
     TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems,
-            ApplicationArchivesBuildItem appArchives) throws ExecutionException, InterruptedException {
+            ApplicationArchivesBuildItem appArchives, OutputTargetBuildItem outputTarget)
+            throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty()) {
             return new TransformedClassesBuildItem(Collections.emptyMap());
         }
-        final Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> bytecodeTransformers = new HashMap<>(
+        final Map<String, List<BytecodeTransformerBuildItem>> bytecodeTransformers = new HashMap<>(
                 bytecodeTransformerBuildItems.size());
         for (BytecodeTransformerBuildItem i : bytecodeTransformerBuildItems) {
             bytecodeTransformers.computeIfAbsent(i.getClassToTransform(), (h) -> new ArrayList<>())
-                    .add(i.getVisitorFunction());
+                    .add(i);
         }
+        final TransformerCache cache = outputTarget.getOutputDirectory() == null ? null
+                : new TransformerCache(outputTarget.getOutputDirectory().resolve(CACHE_DIR));
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
         // we also record if any additional archives needed transformation
         // when we copy these archives we will remove the problematic classes
-        final ExecutorService executorPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        final ExecutorService executorPool = getExecutor();
         final ConcurrentLinkedDeque<Future<TransformedClassesBuildItem.TransformedClass>> transformed = new ConcurrentLinkedDeque<>();
-        try {
-            ClassLoader transformCl = Thread.currentThread().getContextClassLoader();
-            for (Map.Entry<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> entry : bytecodeTransformers
-                    .entrySet()) {
-                String className = entry.getKey();
-                ApplicationArchive archive = appArchives.containingArchive(entry.getKey());
-                if (archive != null) {
-                    List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors = entry.getValue();
-                    String classFileName = className.replace(".", "/") + ".class";
-                    Path path = archive.getChildPath(classFileName);
-                    transformedToArchive.put(classFileName, archive.getArchiveLocation());
-                    transformed.add(executorPool.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
-                        @Override
-                        public TransformedClassesBuildItem.TransformedClass call() throws Exception {
-                            ClassLoader old = Thread.currentThread().getContextClassLoader();
-                            try {
-                                Thread.currentThread().setContextClassLoader(transformCl);
-                                if (Files.size(path) > Integer.MAX_VALUE) {
-                                    throw new RuntimeException(
-                                            "Can't process class files larger than Integer.MAX_VALUE bytes");
-                                }
-                                ClassReader cr = new ClassReader(Files.readAllBytes(path));
-                                ClassWriter writer = new QuarkusClassWriter(cr,
-                                        ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-                                ClassVisitor visitor = writer;
-                                for (BiFunction<String, ClassVisitor, ClassVisitor> i : visitors) {
-                                    visitor = i.apply(className, visitor);
+        ClassLoader transformCl = Thread.currentThread().getContextClassLoader();
+        for (Map.Entry<String, List<BytecodeTransformerBuildItem>> entry : bytecodeTransformers.entrySet()) {
+            String className = entry.getKey();
+            ApplicationArchive archive = appArchives.containingArchive(entry.getKey());
+            if (archive != null) {
+                List<BytecodeTransformerBuildItem> visitors = entry.getValue();
+                String classFileName = className.replace(".", "/") + ".class";
+                Path path = archive.getChildPath(classFileName);
+                transformedToArchive.put(classFileName, archive.getArchiveLocation());
+                transformed.add(executorPool.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
+                    @Override
+                    public TransformedClassesBuildItem.TransformedClass call() throws Exception {
+                        ClassLoader old = Thread.currentThread().getContextClassLoader();
+                        try {
+                            Thread.currentThread().setContextClassLoader(transformCl);
+                            if (Files.size(path) > Integer.MAX_VALUE) {
+                                throw new RuntimeException(
+                                        "Can't process class files larger than Integer.MAX_VALUE bytes");
+                            }
+                            byte[] classData = Files.readAllBytes(path);
+                            String key = cache == null ? null : cache.key(classData, visitors);
+                            if (key != null) {
+                                byte[] cached = cache.read(key);
+                                if (cached != null) {
+                                    return new TransformedClassesBuildItem.TransformedClass(cached, classFileName);
                                 }
-                                cr.accept(visitor, 0);
-                                return new TransformedClassesBuildItem.TransformedClass(writer.toByteArray(), classFileName);
-                            } finally {
-                                Thread.currentThread().setContextClassLoader(old);
                             }
+                            ClassReader cr = new ClassReader(classData);
+                            ClassWriter writer = new QuarkusClassWriter(cr,
+                                    ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+                            ClassVisitor visitor = writer;
+                            for (BytecodeTransformerBuildItem i : visitors) {
+                                visitor = i.getVisitorFunction().apply(className, visitor);
+                            }
+                            cr.accept(visitor, 0);
+                            byte[] data = writer.toByteArray();
+                            if (key != null) {
+                                cache.write(key, data);
+                            }
+                            return new TransformedClassesBuildItem.TransformedClass(data, classFileName);
+                        } finally {
+                            Thread.currentThread().setContextClassLoader(old);
                         }
-                    }));
-                } else {
-                    log.warnf("Cannot transform %s as it's containing application archive could not be found.",
-                            entry.getKey());
-                }
+                    }
+                }));
+            } else {
+                log.warnf("Cannot transform %s as it's containing application archive could not be found.",
+                        entry.getKey());
             }
-
-        } finally {
-            executorPool.shutdown();
         }
         Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar = new HashMap<>();
         if (!transformed.isEmpty()) {
@@ -104,7 +132,162 @@ public class ClassTransformingBuildStep {
                         .add(res);
             }
         }
+        if (cache != null) {
+            cache.prune();
+        }
         return new TransformedClassesBuildItem(transformedClassesByJar);
     }
 
+    private static ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (ClassTransformingBuildStep.class) {
+                result = executor;
+                if (result == null) {
+                    AtomicInteger count = new AtomicInteger();
+                    executor = result = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                            r -> {
+                                Thread thread = new Thread(r, "quarkus-class-transformer-" + count.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result of transformations on disk, keyed by a digest of the original bytecode and of all the
+     * transformers applied to it. A class is only cached if all its transformers provide a cache key.
+     * <p>
+     * Each entry starts with the digest of the transformed bytecode, so that an entry that was truncated or altered is
+     * discarded instead of being used. The entries that were not used by a build are removed at its end, the cache only
+     * holds the classes of the last build.
+     */
+    static final class TransformerCache {
+
+        private static final int DIGEST_LENGTH = 32;
+
+        private final Path directory;
+        private final Map<Class<?>, String> implementations = new ConcurrentHashMap<>();
+        private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+
+        TransformerCache(Path directory) {
+            this.directory = directory;
+        }
+
+        String key(byte[] classData, List<BytecodeTransformerBuildItem> transformers) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(classData);
+                for (BytecodeTransformerBuildItem i : transformers) {
+                    if (i.getCacheKey() == null) {
+                        return null;
+                    }
+                    digest.update((byte) 0);
+                    digest.update(implementations.computeIfAbsent(i.getVisitorFunction().getClass(),
+                            TransformerCache::implementation).getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                    digest.update(i.getCacheKey().getBytes(StandardCharsets.UTF_8));
+                }
+                StringBuilder sb = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                    sb.append(Character.forDigit(b & 0xF, 16));
+                }
+                String key = sb.toString();
+                usedKeys.add(key);
+                return key;
+            } catch (NoSuchAlgorithmException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Identifies the implementation of a transformer: the class name without the generated lambda suffix, and the
+         * location and modification time of the archive it comes from.
+         */
+        private static String implementation(Class<?> clazz) {
+            String name = clazz.getName();
+            int lambda = name.indexOf("$$Lambda$");
+            StringBuilder sb = new StringBuilder(lambda < 0 ? name : name.substring(0, lambda));
+            CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            URL location = codeSource == null ? null : codeSource.getLocation();
+            if (location != null) {
+                sb.append('@').append(location);
+                try {
+                    sb.append('@').append(Files.getLastModifiedTime(Paths.get(location.toURI())).toMillis());
+                } catch (Exception e) {
+                    // not a file, the location has to do
+                }
+            }
+            return sb.toString();
+        }
+
+        byte[] read(String key) {
+            Path entry = directory.resolve(key);
+            if (!Files.isRegularFile(entry)) {
+                return null;
+            }
+            try {
+                byte[] content = Files.readAllBytes(entry);
+                if (content.length > DIGEST_LENGTH) {
+                    byte[] data = Arrays.copyOfRange(content, DIGEST_LENGTH, content.length);
+                    if (MessageDigest.isEqual(Arrays.copyOf(content, DIGEST_LENGTH), digest(data))) {
+                        return data;
+                    }
+                }
+                log.debugf("Discarding the corrupt transformer cache entry %s", entry);
+                Files.deleteIfExists(entry);
+                return null;
+            } catch (IOException | NoSuchAlgorithmException e) {
+                log.debugf(e, "Unable to read transformer cache entry %s", entry);
+                return null;
+            }
+        }
+
+        void write(String key, byte[] data) {
+            Path tmp = null;
+            try {
+                Files.createDirectories(directory);
+                tmp = Files.createTempFile(directory, key, ".tmp");
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    out.write(digest(data));
+                    out.write(data);
+                }
+                Files.move(tmp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                log.debugf(e, "Unable to write transformer cache entry %s", key);
+                if (tmp != null) {
+                    try {
+                        Files.deleteIfExists(tmp);
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * Removes the entries whose key was not computed since this cache was created.
+         */
+        void prune() {
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (!usedKeys.contains(entry.getFileName().toString())) {
+                        Files.deleteIfExists(entry);
+                    }
+                }
+            } catch (IOException e) {
+                log.debugf(e, "Unable to prune the transformer cache %s", directory);
+            }
+        }
+
+        private static byte[] digest(byte[] data) throws NoSuchAlgorithmException {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        }
+    }
 }
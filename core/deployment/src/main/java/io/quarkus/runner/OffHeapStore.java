@@ -0,0 +1,106 @@
+package io.quarkus.runner;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps named byte arrays, such as generated class files, in direct memory instead of on the heap.
+ * <p>
+ * Small entries are appended to shared direct buffers, larger ones get a buffer of their own. Every entry is a slice of
+ * one of these buffers, so a buffer is freed by the garbage collector once all its entries have been removed.
+ */
+final class OffHeapStore {
+
+    private static final int SLAB_SIZE = 512 * 1024;
+
+    private final Map<String, ByteBuffer> entries = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private ByteBuffer slab;
+
+    void put(String name, byte[] data) {
+        entries.put(name, allocate(data));
+    }
+
+    boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * @return a read only view of the entry, positioned at its start, or {@code null}
+     */
+    ByteBuffer get(String name) {
+        ByteBuffer buffer = entries.get(name);
+        return buffer == null ? null : buffer.duplicate();
+    }
+
+    /**
+     * @return a stream over the content of the entry, or {@code null}
+     */
+    InputStream openStream(String name) {
+        ByteBuffer buffer = get(name);
+        return buffer == null ? null : new ByteBufferInputStream(buffer);
+    }
+
+    void remove(String name) {
+        entries.remove(name);
+    }
+
+    private synchronized ByteBuffer allocate(byte[] data) {
+        ByteBuffer target;
+        if (data.length > SLAB_SIZE / 8) {
+            target = ByteBuffer.allocateDirect(data.length);
+        } else {
+            if (slab == null || slab.remaining() < data.length) {
+                slab = ByteBuffer.allocateDirect(SLAB_SIZE);
+            }
+            target = slab.slice();
+            target.limit(data.length);
+            slab.position(slab.position() + data.length);
+        }
+        target.put(data);
+        target.flip();
+        return target.asReadOnlyBuffer();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
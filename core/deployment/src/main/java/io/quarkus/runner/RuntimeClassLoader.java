@@ -12,9 +12,11 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -42,10 +44,13 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
 
     private static final Logger log = Logger.getLogger(RuntimeClassLoader.class);
 
-    private final Map<String, byte[]> appClasses = new ConcurrentHashMap<>();
+    /**
+     * Generated application classes, kept off heap until they are defined.
+     */
+    private final OffHeapStore appClasses = new OffHeapStore();
     private final Set<String> frameworkClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
-    private final Map<String, byte[]> resources = new ConcurrentHashMap<>();
+    private final OffHeapStore resources = new OffHeapStore();
 
     private volatile Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> bytecodeTransformers = null;
 
@@ -141,12 +146,12 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     public InputStream getResourceAsStream(String nm) {
         String name = sanitizeName(nm);
 
-        byte[] data = resources.get(name);
-        if (data != null) {
-            return new ByteArrayInputStream(data);
+        InputStream stream = resources.openStream(name);
+        if (stream != null) {
+            return stream;
         }
 
-        data = findApplicationResourceContent(name);
+        byte[] data = findApplicationResourceContent(name);
         if (data != null) {
             return new ByteArrayInputStream(data);
         }
@@ -161,7 +166,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             return ex;
         }
 
-        if (appClasses.containsKey(name)
+        if (appClasses.contains(name)
                 || (!frameworkClasses.contains(name) && getClassInApplicationClassPaths(name) != null)) {
             return findClass(name);
         }
@@ -176,21 +181,25 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             return existing;
         }
 
-        byte[] bytes = appClasses.get(name);
-        if (bytes != null) {
-            try {
-                definePackage(name);
-                return defineClass(name, bytes, 0, bytes.length);
-            } catch (Error e) {
-                //potential race conditions if another thread is loading the same class
+        if (appClasses.contains(name)) {
+            synchronized (getClassLoadingLock(name)) {
+                //the bytes are released once the class is defined, so another thread may have defined it already
                 existing = findLoadedClass(name);
                 if (existing != null) {
                     return existing;
                 }
-                throw e;
+                ByteBuffer buffer = appClasses.get(name);
+                if (buffer != null) {
+                    definePackage(name);
+                    Class<?> clazz = defineClass(name, buffer, (ProtectionDomain) null);
+                    appClasses.remove(name);
+                    return clazz;
+                }
             }
         }
 
+        byte[] bytes;
+
         Path classLoc = getClassInApplicationClassPaths(name);
 
         if (classLoc != null) {
@@ -453,8 +462,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     }
 
     private URL getQuarkusResource(String name) {
-        byte[] data = resources.get(name);
-        if (data != null) {
+        if (resources.contains(name)) {
             String path = "quarkus:" + name;
 
             try {
@@ -468,7 +476,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
 
                             @Override
                             public InputStream getInputStream() throws IOException {
-                                return new ByteArrayInputStream(resources.get(name));
+                                return resources.openStream(name);
                             }
                         };
                     }
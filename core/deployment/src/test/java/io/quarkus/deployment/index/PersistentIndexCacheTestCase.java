@@ -0,0 +1,97 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path archive = dir.resolve("archive.jar");
+        Files.write(archive, new byte[] { 1, 2, 3 });
+
+        PersistentIndexCache cache = PersistentIndexCache.of(dir);
+        String key = cache.key(archive);
+        assertNotNull(key);
+        assertNull(cache.read(key));
+
+        cache.write(key, index(PersistentIndexCacheTestCase.class));
+        Index cached = cache.read(key);
+        assertNotNull(cached);
+        assertNotNull(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTestCase.class.getName())));
+
+        // a changed archive must not hit the previous entry
+        Files.write(archive, new byte[] { 1, 2, 3, 4 });
+        String changed = cache.key(archive);
+        assertNotEquals(key, changed);
+        assertNull(cache.read(changed));
+    }
+
+    @Test
+    public void testCorruptedEntryIsDiscarded() throws IOException {
+        PersistentIndexCache cache = PersistentIndexCache.of(dir);
+        Path entry = dir.resolve(PersistentIndexCache.CACHE_DIR).resolve("broken.idx");
+        Files.createDirectories(entry.getParent());
+        Files.write(entry, new byte[] { 0, 1, 2 });
+        assertNull(cache.read("broken"));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    public void testPrune() throws IOException {
+        Path used = dir.resolve("used.jar");
+        Files.write(used, new byte[] { 1 });
+        Path removed = dir.resolve("removed.jar");
+        Files.write(removed, new byte[] { 2 });
+
+        PersistentIndexCache cache = PersistentIndexCache.of(dir);
+        String usedKey = cache.key(used);
+        String removedKey = cache.key(removed);
+        cache.write(usedKey, index(PersistentIndexCacheTestCase.class));
+        cache.write(removedKey, index(PersistentIndexCacheTestCase.class));
+
+        // the next build only depends on the first archive
+        PersistentIndexCache next = PersistentIndexCache.of(dir);
+        assertEquals(usedKey, next.key(used));
+        next.prune();
+        assertNotNull(next.read(usedKey));
+        assertFalse(Files.exists(dir.resolve(PersistentIndexCache.CACHE_DIR).resolve(removedKey + ".idx")));
+    }
+
+    @Test
+    public void testDisabled() throws IOException {
+        Path archive = dir.resolve("archive.jar");
+        Files.write(archive, new byte[] { 1 });
+        PersistentIndexCache cache = PersistentIndexCache.of(null);
+        assertFalse(cache.isEnabled());
+        assertNull(cache.key(archive));
+        assertNull(cache.read(null));
+        assertTrue(PersistentIndexCache.of(dir).isEnabled());
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class AppCDSBuildStepTest {
+
+    @Test
+    public void testJavaMajorVersion() {
+        assertEquals(8, AppCDSBuildStep.javaMajorVersion("1.8"));
+        assertEquals(9, AppCDSBuildStep.javaMajorVersion("9"));
+        assertEquals(11, AppCDSBuildStep.javaMajorVersion("11"));
+        assertEquals(14, AppCDSBuildStep.javaMajorVersion("14-ea"));
+        assertThrows(IllegalArgumentException.class, () -> AppCDSBuildStep.javaMajorVersion("ea"));
+    }
+
+    @Test
+    public void testAppCDSSupported() {
+        assertFalse(AppCDSBuildStep.isAppCDSSupported("1.8"));
+        assertFalse(AppCDSBuildStep.isAppCDSSupported("9"));
+        assertFalse(AppCDSBuildStep.isAppCDSSupported("10"));
+        assertTrue(AppCDSBuildStep.isAppCDSSupported("11"));
+        assertTrue(AppCDSBuildStep.isAppCDSSupported("13"));
+    }
+
+    @Test
+    public void testDumpClassListCommand() {
+        assertEquals(Arrays.asList("/jdk/bin/java", "-XX:DumpLoadedClassList=classes.lst",
+                "-Dquarkus.appcds.generate=true", "-jar", "app-runner.jar"),
+                AppCDSBuildStep.dumpClassListCommand("/jdk/bin/java", "app-runner.jar"));
+    }
+
+    @Test
+    public void testDumpArchiveCommand() {
+        assertEquals(Arrays.asList("/jdk/bin/java", "-Xshare:dump", "-XX:SharedClassListFile=classes.lst",
+                "-XX:SharedArchiveFile=app-cds.jsa", "-jar", "app-runner.jar"),
+                AppCDSBuildStep.dumpArchiveCommand("/jdk/bin/java", "app-runner.jar"));
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassVisitor;
+
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+
+public class TransformerCacheTest {
+
+    private static final byte[] CLASS_DATA = { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 1 };
+    private static final byte[] TRANSFORMED = { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 2 };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testHit() {
+        ClassTransformingBuildStep.TransformerCache cache = new ClassTransformingBuildStep.TransformerCache(directory);
+        String key = cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v1"));
+        assertNotNull(key);
+        assertNull(cache.read(key));
+        cache.write(key, TRANSFORMED);
+
+        // the next build finds the entry
+        ClassTransformingBuildStep.TransformerCache next = new ClassTransformingBuildStep.TransformerCache(directory);
+        assertEquals(key, next.key(CLASS_DATA, transformers(new FirstTransformer(), "v1")));
+        assertArrayEquals(TRANSFORMED, next.read(key));
+    }
+
+    @Test
+    public void testInvalidation() {
+        ClassTransformingBuildStep.TransformerCache cache = new ClassTransformingBuildStep.TransformerCache(directory);
+        String key = cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v1"));
+
+        // another cache key of the transformer
+        assertNotEquals(key, cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v2")));
+        // another transformer implementation
+        assertNotEquals(key, cache.key(CLASS_DATA, transformers(new SecondTransformer(), "v1")));
+        // another transformed class
+        assertNotEquals(key, cache.key(TRANSFORMED, transformers(new FirstTransformer(), "v1")));
+        // an additional transformer
+        assertNotEquals(key, cache.key(CLASS_DATA, Arrays.asList(
+                new BytecodeTransformerBuildItem("Foo", new FirstTransformer(), "v1"),
+                new BytecodeTransformerBuildItem("Foo", new SecondTransformer(), "v1"))));
+        // a transformer without a cache key is never cached
+        assertNull(cache.key(CLASS_DATA, transformers(new FirstTransformer(), null)));
+    }
+
+    @Test
+    public void testCorruptEntry() throws IOException {
+        ClassTransformingBuildStep.TransformerCache cache = new ClassTransformingBuildStep.TransformerCache(directory);
+        String key = cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v1"));
+        cache.write(key, TRANSFORMED);
+        Path entry = directory.resolve(key);
+
+        byte[] content = Files.readAllBytes(entry);
+        content[content.length - 1]++;
+        Files.write(entry, content);
+        assertNull(cache.read(key));
+        assertFalse(Files.exists(entry));
+
+        cache.write(key, TRANSFORMED);
+        Files.write(entry, Arrays.copyOf(Files.readAllBytes(entry), 10));
+        assertNull(cache.read(key));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    public void testPrune() {
+        ClassTransformingBuildStep.TransformerCache cache = new ClassTransformingBuildStep.TransformerCache(directory);
+        String kept = cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v1"));
+        String stale = cache.key(CLASS_DATA, transformers(new FirstTransformer(), "v2"));
+        cache.write(kept, TRANSFORMED);
+        cache.write(stale, TRANSFORMED);
+        cache.prune();
+        assertTrue(Files.exists(directory.resolve(kept)));
+        assertTrue(Files.exists(directory.resolve(stale)));
+
+        // the next build only uses the first entry
+        ClassTransformingBuildStep.TransformerCache next = new ClassTransformingBuildStep.TransformerCache(directory);
+        next.key(CLASS_DATA, transformers(new FirstTransformer(), "v1"));
+        next.prune();
+        assertArrayEquals(TRANSFORMED, next.read(kept));
+        assertFalse(Files.exists(directory.resolve(stale)));
+    }
+
+    private static List<BytecodeTransformerBuildItem> transformers(BiFunction<String, ClassVisitor, ClassVisitor> function,
+            String cacheKey) {
+        return Collections.singletonList(new BytecodeTransformerBuildItem("Foo", function, cacheKey));
+    }
+
+    static class FirstTransformer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor visitor) {
+            return visitor;
+        }
+    }
+
+    static class SecondTransformer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor visitor) {
+            return visitor;
+        }
+    }
+}
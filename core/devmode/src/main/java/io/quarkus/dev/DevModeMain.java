@@ -271,6 +271,13 @@ public class DevModeMain implements Closeable {
             for (HotReplacementSetup i : hotReplacement) {
                 i.close();
             }
+            if (runtimeUpdatesProcessor != null) {
+                try {
+                    runtimeUpdatesProcessor.close();
+                } catch (IOException e) {
+                    log.error("Failed to close the runtime updates processor", e);
+                }
+            }
         }
     }
 }
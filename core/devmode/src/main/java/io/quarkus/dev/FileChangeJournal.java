@@ -0,0 +1,261 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps track of the files that changed below a set of root directories, so that a scan only has to look at the
+ * changed files instead of walking the whole tree.
+ * <p>
+ * {@link #getChanges(Path)} returns {@code null} whenever the caller has to fall back to walking the root: the first
+ * time the root is seen, after the watch service has lost events, after a watched directory has been removed, or
+ * when the root cannot be watched at all. Every root is expected to have a single consumer.
+ * <p>
+ * The operating system delivers the events asynchronously, so a file saved right before a scan may not be known yet.
+ * {@link #awaitPendingEvents()} waits a short bounded time for them before a scan.
+ */
+final class FileChangeJournal implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeJournal.class);
+
+    /**
+     * How long a scan that finds no change waits for the events of a file saved right before it.
+     */
+    static final long PENDING_EVENTS_TIMEOUT_MS = 10;
+    /**
+     * How long to wait for more events once the first ones have been delivered.
+     */
+    private static final long SETTLE_TIMEOUT_MS = 2;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+    private final Map<Path, Root> roots = new HashMap<>();
+
+    private FileChangeJournal(WatchService watchService) {
+        this.watchService = watchService;
+    }
+
+    /**
+     * @return a new journal, or {@code null} if the default file system does not support native watching
+     */
+    static FileChangeJournal create() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            if (watchService.getClass().getName().equals("sun.nio.fs.PollingWatchService")) {
+                //this implementation walks the registered directories in a background thread and only
+                //notices changes every few seconds, walking on demand is both faster and more accurate
+                watchService.close();
+                log.debug("No native file system watching available, falling back to scanning");
+                return null;
+            }
+            return new FileChangeJournal(watchService);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to create a watch service, falling back to scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the files and directories below the given root that have been created, modified or deleted since the
+     * previous invocation for the same root.
+     *
+     * @param root the root directory
+     * @return the changed paths, or {@code null} if the whole root needs to be scanned
+     */
+    synchronized Set<Path> getChanges(Path root) {
+        Root r = roots.get(root);
+        if (r == null) {
+            r = new Root(root);
+            roots.put(root, r);
+            r.watched = register(root, null);
+            return null;
+        }
+        if (!r.watched) {
+            return null;
+        }
+        drain();
+        if (r.rescan) {
+            r.rescan = false;
+            r.changes = new HashSet<>();
+            //directories may have been created while events were lost
+            r.watched = register(root, null);
+            return null;
+        }
+        Set<Path> ret = r.changes;
+        r.changes = new HashSet<>();
+        return ret;
+    }
+
+    /**
+     * Called before a scan of the roots. If no change has been delivered yet, waits up to
+     * {@link #PENDING_EVENTS_TIMEOUT_MS} for the events of a change that happened right before the scan, so that it is
+     * not missed until the next one. This bounds the cost of a scan that finds nothing, a scan that finds something
+     * also waits until the events stop coming for {@link #SETTLE_TIMEOUT_MS}.
+     */
+    void awaitPendingEvents() {
+        awaitPendingEvents(PENDING_EVENTS_TIMEOUT_MS);
+    }
+
+    synchronized void awaitPendingEvents(long timeoutMs) {
+        if (roots.isEmpty()) {
+            return;
+        }
+        drain();
+        long timeout = timeoutMs;
+        for (Root r : roots.values()) {
+            if (!r.watched || r.rescan || !r.changes.isEmpty()) {
+                //something was already delivered, only wait for the rest of it
+                timeout = SETTLE_TIMEOUT_MS;
+                break;
+            }
+        }
+        try {
+            WatchKey key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+            //the events of a single save may be delivered in several batches, wait until they stop coming
+            while (key != null) {
+                process(key);
+                key = watchService.poll(SETTLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            process(key);
+        }
+    }
+
+    private void process(WatchKey key) {
+        Path dir = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || dir == null) {
+                rescan(dir);
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            record(child);
+            if (event.kind() == ENTRY_CREATE) {
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    //files may have been created before the new directory was registered
+                    Set<Path> created = new HashSet<>();
+                    if (!register(child, created)) {
+                        rescan(child);
+                    }
+                    created.forEach(this::record);
+                }
+            } else if (event.kind() == ENTRY_DELETE) {
+                WatchKey removed = keys.remove(child);
+                if (removed != null) {
+                    //we can't tell which files were in there
+                    removed.cancel();
+                    directories.remove(removed);
+                    rescan(child);
+                }
+            }
+        }
+        if (!key.reset()) {
+            //the directory is gone or can't be watched anymore
+            directories.remove(key);
+            if (dir != null && keys.remove(dir) != null) {
+                rescan(dir);
+            }
+        }
+    }
+
+    private void record(Path path) {
+        for (Root r : roots.values()) {
+            if (path.startsWith(r.path)) {
+                r.changes.add(path);
+            }
+        }
+    }
+
+    private void rescan(Path path) {
+        for (Root r : roots.values()) {
+            if (path == null || path.startsWith(r.path) || r.path.startsWith(path)) {
+                r.rescan = true;
+            }
+        }
+    }
+
+    private boolean register(Path start, Set<Path> files) {
+        if (!Files.isDirectory(start)) {
+            return false;
+        }
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!keys.containsKey(dir)) {
+                        WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                        directories.put(key, dir);
+                        keys.put(dir, key);
+                    }
+                    if (files != null) {
+                        files.add(dir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (files != null) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return true;
+        } catch (IOException e) {
+            //most likely the limit of watches has been reached
+            log.debugf(e, "Unable to watch %s, falling back to scanning", start);
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        roots.clear();
+        directories.clear();
+        keys.clear();
+        watchService.close();
+    }
+
+    private static final class Root {
+
+        final Path path;
+        Set<Path> changes = new HashSet<>();
+        boolean watched;
+        boolean rescan;
+
+        Root(Path path) {
+            this.path = path;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.dev;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -29,7 +30,7 @@ import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.deployment.devmode.HotReplacementSetup;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
     private static final String CLASS_EXTENSION = ".class";
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
@@ -64,10 +65,17 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final List<HotReplacementSetup> hotReplacementSetup = new ArrayList<>();
     private final DevModeMain devModeMain;
 
+    /**
+     * Tracks changes in the source, classes and resource directories, if native file system watching is available.
+     * Without it every scan walks all these directories.
+     */
+    private final FileChangeJournal journal;
+
     public RuntimeUpdatesProcessor(DevModeContext context, ClassLoaderCompiler compiler, DevModeMain devModeMain) {
         this.context = context;
         this.compiler = compiler;
         this.devModeMain = devModeMain;
+        this.journal = FileChangeJournal.create();
     }
 
     @Override
@@ -118,6 +126,9 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             }
         }
 
+        if (journal != null) {
+            journal.awaitPendingEvents();
+        }
         boolean classChanged = checkForChangedClasses();
         Set<String> filesChanged = checkForFileChange();
 
@@ -165,16 +176,34 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
 
+            boolean sourceFileDeleted = false;
+
             for (String sourcePath : module.getSourcePaths()) {
                 final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
-                    changedSourceFiles = sourcesStream
-                            .parallel()
-                            .filter(p -> matchingHandledExtension(p).isPresent()
-                                    && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
-                            .map(Path::toFile)
-                            //Needing a concurrent Set, not many standard options:
-                            .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                final Set<Path> journalChanges = getChanges(Paths.get(sourcePath));
+                if (journalChanges == null) {
+                    try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
+                        changedSourceFiles = sourcesStream
+                                .parallel()
+                                .filter(p -> matchingHandledExtension(p).isPresent()
+                                        && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
+                                .map(Path::toFile)
+                                //Needing a concurrent Set, not many standard options:
+                                .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                    }
+                } else {
+                    changedSourceFiles = new ConcurrentSkipListSet<>();
+                    for (Path p : journalChanges) {
+                        if (!matchingHandledExtension(p).isPresent()) {
+                            continue;
+                        }
+                        if (!Files.isRegularFile(p)) {
+                            //the class files of deleted sources are only found by walking the classes
+                            sourceFileDeleted = true;
+                        } else if (sourceFileWasRecentModified(p, ignoreFirstScanChanges)) {
+                            changedSourceFiles.add(p.toFile());
+                        }
+                    }
                 }
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
@@ -194,7 +223,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges,
+                    sourceFileDeleted)) {
                 hasChanges = true;
             }
         }
@@ -204,7 +234,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            boolean isInitialRun, boolean sourceFileDeleted) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -214,10 +244,14 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         try {
             for (String folder : module.getClassesPath().split(File.pathSeparator)) {
                 final Path moduleClassesPath = Paths.get(folder);
-                try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
+                final Set<Path> journalChanges = getChanges(moduleClassesPath);
+                //if something was compiled or deleted we need to see all the class files of the module, as the compiler
+                //output may not have been reported yet and the class files of deleted sources are unknown
+                final boolean walk = journalChanges == null || hasChanges || sourceFileDeleted;
+                try (final Stream<Path> classesStream = walk ? Files.walk(moduleClassesPath) : journalChanges.stream()) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
-                            .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
+                            .filter(path -> path.toString().endsWith(CLASS_EXTENSION) && (walk || Files.isRegularFile(path)))
                             .collect(Collectors.toSet());
 
                     for (Path classFilePath : classFilePaths) {
@@ -305,37 +339,30 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             //copy all modified non hot deployment files over
             if (doCopy) {
                 try {
-                    final Set<Path> seen = new HashSet<>(moduleResources);
-                    //since the stream is Closeable, use a try with resources so the underlying iterator is closed
-                    try (final Stream<Path> walk = Files.walk(root)) {
-                        walk.forEach(path -> {
-                            try {
-                                Path relative = root.relativize(path);
-                                Path target = classesDir.resolve(relative);
+                    final Set<Path> journalChanges = getChanges(root);
+                    if (journalChanges == null) {
+                        final Set<Path> seen = new HashSet<>(moduleResources);
+                        //since the stream is Closeable, use a try with resources so the underlying iterator is closed
+                        try (final Stream<Path> walk = Files.walk(root)) {
+                            walk.forEach(path -> {
+                                Path target = classesDir.resolve(root.relativize(path));
                                 seen.remove(target);
-                                if (!watchedFileTimestamps.containsKey(path)) {
-                                    moduleResources.add(target);
-                                    if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
-                                            .getLastModifiedTime(path).toMillis()) {
-                                        if (Files.isDirectory(path)) {
-                                            Files.createDirectories(target);
-                                        } else {
-                                            Files.createDirectories(target.getParent());
-                                            byte[] data = Files.readAllBytes(path);
-                                            try (FileOutputStream out = new FileOutputStream(target.toFile())) {
-                                                out.write(data);
-                                            }
-                                        }
-                                    }
-                                }
-                            } catch (Exception e) {
-                                log.error("Failed to copy resources", e);
+                                copyResource(path, target, moduleResources);
+                            });
+                        }
+                        for (Path i : seen) {
+                            if (!Files.isDirectory(i)) {
+                                Files.delete(i);
+                            }
+                        }
+                    } else {
+                        for (Path path : journalChanges) {
+                            Path target = classesDir.resolve(root.relativize(path));
+                            if (Files.exists(path)) {
+                                copyResource(path, target, moduleResources);
+                            } else if (moduleResources.remove(target) && !Files.isDirectory(target)) {
+                                Files.deleteIfExists(target);
                             }
-                        });
-                    }
-                    for (Path i : seen) {
-                        if (!Files.isDirectory(i)) {
-                            Files.delete(i);
                         }
                     }
                 } catch (IOException e) {
@@ -380,6 +407,32 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return ret;
     }
 
+    private void copyResource(Path path, Path target, Set<Path> moduleResources) {
+        try {
+            if (!watchedFileTimestamps.containsKey(path)) {
+                moduleResources.add(target);
+                if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
+                        .getLastModifiedTime(path).toMillis()) {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(target);
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        byte[] data = Files.readAllBytes(path);
+                        try (FileOutputStream out = new FileOutputStream(target.toFile())) {
+                            out.write(data);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to copy resources", e);
+        }
+    }
+
+    private Set<Path> getChanges(Path root) {
+        return journal == null ? null : journal.getChanges(root);
+    }
+
     private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges) {
         return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges);
     }
@@ -449,4 +502,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         }
     }
 
+    @Override
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
 }
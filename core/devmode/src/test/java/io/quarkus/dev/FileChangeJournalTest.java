@@ -0,0 +1,62 @@
+package io.quarkus.dev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileChangeJournalTest {
+
+    //generous, the wait returns as soon as the first events are delivered
+    private static final long TIMEOUT_MS = 10000;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void changes() throws Exception {
+        FileChangeJournal journal = FileChangeJournal.create();
+        assumeTrue(journal != null, "No native file system watching");
+        try {
+            Path existing = Files.write(root.resolve("existing.txt"), new byte[] { 1 });
+            //the first call always requires a scan
+            assertNull(journal.getChanges(root));
+            assertEquals(new HashSet<>(), journal.getChanges(root));
+
+            Files.write(existing, new byte[] { 2 });
+            Path dir = Files.createDirectories(root.resolve("dir"));
+            Path nested = Files.write(dir.resolve("nested.txt"), new byte[] { 1 });
+
+            //a single scan right after the writes must see them
+            journal.awaitPendingEvents(TIMEOUT_MS);
+            Set<Path> changes = journal.getChanges(root);
+            assertNotNull(changes);
+            assertTrue(changes.containsAll(Arrays.asList(existing, dir, nested)), changes.toString());
+
+            Files.delete(nested);
+            journal.awaitPendingEvents(TIMEOUT_MS);
+            changes = journal.getChanges(root);
+            assertNotNull(changes);
+            assertTrue(changes.contains(nested), changes.toString());
+
+            //removing a watched directory requires a scan
+            Files.delete(dir);
+            journal.awaitPendingEvents(TIMEOUT_MS);
+            assertNull(journal.getChanges(root));
+            assertNotNull(journal.getChanges(root));
+        } finally {
+            journal.close();
+        }
+    }
+}
@@ -26,6 +26,12 @@ public abstract class Application {
 
     private static final String DISABLE_SIGNAL_HANDLERS = "DISABLE_SIGNAL_HANDLERS";
 
+    /**
+     * If this system property is set the application is stopped as soon as it has started. This is used to record the
+     * classes loaded during startup when generating an AppCDS archive.
+     */
+    public static final String GENERATE_APP_CDS_SYSTEM_PROPERTY = "quarkus.appcds.generate";
+
     private static final int ST_INITIAL = 0;
     private static final int ST_STARTING = 1;
     private static final int ST_STARTED = 2;
@@ -187,6 +193,7 @@ public abstract class Application {
      * Run the application as if it were in a standalone JVM.
      */
     public final void run(String[] args) {
+        final boolean generateAppCds = Boolean.getBoolean(GENERATE_APP_CDS_SYSTEM_PROPERTY);
         try {
             if (ImageInfo.inImageRuntimeCode() && System.getenv(DISABLE_SIGNAL_HANDLERS) == null) {
                 final SignalHandler handler = new SignalHandler() {
@@ -217,7 +224,7 @@ public abstract class Application {
             Runtime.getRuntime().addShutdownHook(shutdownHookThread);
             start(args);
             try {
-                while (!shutdownRequested) {
+                while (!shutdownRequested && !generateAppCds) {
                     Thread.interrupted();
                     LockSupport.park(shutdownHookThread);
                 }
@@ -227,6 +234,10 @@ public abstract class Application {
         } finally {
             exit();
         }
+        if (generateAppCds) {
+            //don't let lingering non daemon threads keep the training run alive
+            System.exit(0);
+        }
     }
 
     private void exit() {
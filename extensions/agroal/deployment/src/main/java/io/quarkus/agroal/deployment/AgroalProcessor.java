@@ -33,6 +33,7 @@ import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -55,6 +56,9 @@ class AgroalProcessor {
 
     private static final Logger log = Logger.getLogger(AgroalProcessor.class);
 
+    private static final String DATA_SOURCE_PRODUCER_CLASS_NAME = AbstractDataSourceProducer.class.getPackage().getName()
+            + ".DataSourceProducer";
+
     private static final Set<DotName> UNREMOVABLE_BEANS = new HashSet<>(Arrays.asList(
             DotName.createSimple(AbstractDataSourceProducer.class.getName()),
             DotName.createSimple(javax.sql.DataSource.class.getName())));
@@ -123,13 +127,10 @@ class AgroalProcessor {
         sslNativeSupport.produce(new ExtensionSslNativeSupportBuildItem(FeatureBuildItem.AGROAL));
 
         // Generate the DataSourceProducer bean
-        String dataSourceProducerClassName = AbstractDataSourceProducer.class.getPackage().getName() + "."
-                + "DataSourceProducer";
-
-        createDataSourceProducerBean(generatedBean, dataSourceProducerClassName);
+        createDataSourceProducerBean(generatedBean, DATA_SOURCE_PRODUCER_CLASS_NAME);
 
         return new BeanContainerListenerBuildItem(recorder.addDataSource(
-                (Class<? extends AbstractDataSourceProducer>) recorderContext.classProxy(dataSourceProducerClassName),
+                (Class<? extends AbstractDataSourceProducer>) recorderContext.classProxy(DATA_SOURCE_PRODUCER_CLASS_NAME),
                 agroalBuildTimeConfig,
                 sslNativeConfig.isExplicitlyDisabled()));
     }
@@ -184,6 +185,21 @@ class AgroalProcessor {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Record(STATIC_INIT)
+    @BuildStep
+    BeanContainerListenerBuildItem enablePoolMetrics(RecorderContext recorderContext, AgroalRecorder recorder,
+            Capabilities capabilities) {
+        if (!agroalBuildTimeConfig.metricsEnabled || !capabilities.isCapabilityPresent(Capabilities.METRICS)
+                || (!agroalBuildTimeConfig.defaultDataSource.driver.isPresent()
+                        && agroalBuildTimeConfig.namedDataSources.isEmpty())) {
+            return null;
+        }
+
+        return new BeanContainerListenerBuildItem(recorder.enablePoolMetrics(
+                (Class<? extends AbstractDataSourceProducer>) recorderContext.classProxy(DATA_SOURCE_PRODUCER_CLASS_NAME)));
+    }
+
     @Record(ExecutionTime.RUNTIME_INIT)
     @BuildStep
     void configureRuntimeProperties(AgroalRecorder recorder,
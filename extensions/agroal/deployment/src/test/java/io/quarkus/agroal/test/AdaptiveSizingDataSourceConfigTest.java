@@ -0,0 +1,38 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AdaptiveSizingDataSourceConfigTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-adaptive-sizing.properties");
+
+    @Test
+    public void testAdaptiveSizingConfig() throws SQLException {
+        AgroalConnectionPoolConfiguration configuration = defaultDataSource.getConfiguration().connectionPoolConfiguration();
+        // the acquisition time is measured by the metrics
+        assertTrue(defaultDataSource.getConfiguration().metricsEnabled());
+        assertEquals(2, configuration.maxSize());
+
+        try (Connection connection = defaultDataSource.getConnection()) {
+            assertEquals(1, defaultDataSource.getMetrics().acquireCount());
+        }
+    }
+}
@@ -4,6 +4,10 @@ import java.sql.Driver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -15,6 +19,7 @@ import javax.transaction.TransactionSynchronizationRegistry;
 import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.supplier.AgroalConnectionFactoryConfigurationSupplier;
 import io.agroal.api.configuration.supplier.AgroalConnectionPoolConfigurationSupplier;
@@ -34,8 +39,11 @@ public abstract class AbstractDataSourceProducer {
     private AgroalBuildTimeConfig buildTimeConfig;
     private AgroalRuntimeConfig runtimeConfig;
     private boolean disableSslSupport = false;
+    private Function<String, DataSourcePoolMetrics> poolMetricsFactory;
 
     private List<AgroalDataSource> dataSources = new ArrayList<>();
+    private List<DataSourcePoolMetrics> poolMetrics = new ArrayList<>();
+    private ScheduledExecutorService adaptiveSizingExecutor;
 
     @Inject
     public TransactionManager transactionManager;
@@ -122,8 +130,9 @@ public abstract class AbstractDataSourceProducer {
             agroalConnectionFactoryConfigurationSupplier.initialSql(dataSourceRuntimeConfig.newConnectionSql.get());
         }
 
-        // metrics
-        dataSourceConfiguration.metricsEnabled(dataSourceRuntimeConfig.enableMetrics);
+        // metrics, the adaptive sizing and the published pool metrics rely on them
+        dataSourceConfiguration.metricsEnabled(dataSourceRuntimeConfig.enableMetrics
+                || dataSourceRuntimeConfig.adaptiveSizing || poolMetricsFactory != null);
 
         // Authentication
         if (dataSourceRuntimeConfig.username.isPresent()) {
@@ -191,16 +200,52 @@ public abstract class AbstractDataSourceProducer {
             }
         }
 
+        DataSourcePoolMetrics dataSourcePoolMetrics = poolMetricsFactory != null
+                ? poolMetricsFactory.apply(dataSourceName)
+                : null;
+        AgroalDataSourceListener[] listeners = dataSourcePoolMetrics != null
+                ? new AgroalDataSourceListener[] { new AgroalEventLoggingListener(dataSourceName), dataSourcePoolMetrics }
+                : new AgroalDataSourceListener[] { new AgroalEventLoggingListener(dataSourceName) };
+
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(dataSourceConfiguration.get(),
-                new AgroalEventLoggingListener(dataSourceName));
+        AgroalDataSource dataSource = new io.agroal.pool.DataSource(dataSourceConfiguration.get(), listeners);
         log.debugv("Started data source {0} connected to {1}", dataSource, url);
 
         this.dataSources.add(dataSource);
 
+        if (dataSourcePoolMetrics != null) {
+            dataSourcePoolMetrics.bind(dataSource);
+            this.poolMetrics.add(dataSourcePoolMetrics);
+        }
+
+        if (dataSourceRuntimeConfig.adaptiveSizing) {
+            startAdaptiveSizing(dataSourceName, dataSource, dataSourceRuntimeConfig);
+        }
+
         return dataSource;
     }
 
+    private synchronized void startAdaptiveSizing(String dataSourceName, AgroalDataSource dataSource,
+            DataSourceRuntimeConfig dataSourceRuntimeConfig) {
+        // the pool is sized for the expected load by max-size, adaptive sizing only absorbs the peaks above it
+        int lowerBound = dataSourceRuntimeConfig.maxSize;
+        int upperBound = dataSourceRuntimeConfig.adaptiveMaxSize.orElse(2 * dataSourceRuntimeConfig.maxSize);
+        if (upperBound < dataSourceRuntimeConfig.maxSize) {
+            throw new RuntimeException("The adaptive max size of datasource " + dataSourceName
+                    + " must be greater than or equal to its max size");
+        }
+        if (adaptiveSizingExecutor == null) {
+            adaptiveSizingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "agroal-adaptive-sizing");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long interval = dataSourceRuntimeConfig.adaptiveInterval.toMillis();
+        adaptiveSizingExecutor.scheduleWithFixedDelay(new AdaptivePoolSizer(dataSourceName, dataSource, lowerBound,
+                upperBound, dataSourceRuntimeConfig.adaptiveTargetWait.toNanos()), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
     public void setBuildTimeConfig(AgroalBuildTimeConfig buildTimeConfig) {
         this.buildTimeConfig = buildTimeConfig;
     }
@@ -213,6 +258,10 @@ public abstract class AbstractDataSourceProducer {
         this.disableSslSupport = true;
     }
 
+    public void setPoolMetricsFactory(Function<String, DataSourcePoolMetrics> poolMetricsFactory) {
+        this.poolMetricsFactory = poolMetricsFactory;
+    }
+
     private void checkRuntimeConfig() {
         if (runtimeConfig == null) {
             throw new IllegalStateException(
@@ -222,6 +271,14 @@ public abstract class AbstractDataSourceProducer {
 
     @PreDestroy
     public void stop() {
+        synchronized (this) {
+            if (adaptiveSizingExecutor != null) {
+                adaptiveSizingExecutor.shutdownNow();
+            }
+        }
+        for (DataSourcePoolMetrics metrics : poolMetrics) {
+            metrics.close();
+        }
         for (AgroalDataSource dataSource : dataSources) {
             if (dataSource != null) {
                 dataSource.close();
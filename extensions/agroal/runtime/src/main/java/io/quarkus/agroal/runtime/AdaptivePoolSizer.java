@@ -0,0 +1,71 @@
+package io.quarkus.agroal.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+
+/**
+ * Periodically adjusts the maximum size of a pool based on the time spent waiting for a connection since the previous
+ * run.
+ * <p>
+ * The pool is grown by a quarter of its size when the average wait exceeds the target while all the connections are in
+ * use, and shrunk by one connection when the average wait is well below the target and the pool is underused.
+ */
+final class AdaptivePoolSizer implements Runnable {
+
+    private static final Logger log = Logger.getLogger("io.agroal.pool");
+
+    private final String datasourceName;
+    private final AgroalDataSource dataSource;
+    private final int lowerBound;
+    private final int upperBound;
+    private final long targetWaitNanos;
+
+    // only accessed by the scheduler thread
+    private long lastAcquireCount;
+    private long lastBlockingNanos;
+
+    AdaptivePoolSizer(String name, AgroalDataSource dataSource, int lowerBound, int upperBound, long targetWaitNanos) {
+        this.datasourceName = "Datasource '" + name + "'";
+        this.dataSource = dataSource;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.targetWaitNanos = targetWaitNanos;
+    }
+
+    @Override
+    public void run() {
+        try {
+            adjust();
+        } catch (RuntimeException e) {
+            log.debugv(e, "{0}: Unable to adjust the pool size", datasourceName);
+        }
+    }
+
+    private void adjust() {
+        AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+        long acquireCount = metrics.acquireCount();
+        long blockingNanos = metrics.blockingTimeTotal().toNanos();
+        long acquired = acquireCount - lastAcquireCount;
+        long averageWait = acquired > 0 ? (blockingNanos - lastBlockingNanos) / acquired : 0;
+        lastAcquireCount = acquireCount;
+        lastBlockingNanos = blockingNanos;
+
+        AgroalConnectionPoolConfiguration pool = dataSource.getConfiguration().connectionPoolConfiguration();
+        int maxSize = pool.maxSize();
+        long active = metrics.activeCount();
+        int newMaxSize = maxSize;
+        if ((averageWait > targetWaitNanos || metrics.awaitingCount() > 0) && active >= maxSize) {
+            newMaxSize = Math.min(upperBound, maxSize + Math.max(1, maxSize / 4));
+        } else if (averageWait < targetWaitNanos / 2 && metrics.awaitingCount() == 0 && active < maxSize / 2) {
+            newMaxSize = Math.max(lowerBound, maxSize - 1);
+        }
+        if (newMaxSize != maxSize) {
+            log.debugv("{0}: Adjusting the maximum pool size from {1} to {2} (average wait {3}ns, {4} active)",
+                    datasourceName, maxSize, newMaxSize, averageWait, active);
+            pool.setMaxSize(newMaxSize);
+        }
+    }
+}
@@ -26,4 +26,11 @@ public class AgroalBuildTimeConfig {
      */
     @ConfigItem(name = "health.enabled", defaultValue = "true")
     public boolean healthEnabled;
+
+    /**
+     * Whether or not the pool metrics of the datasources are published in case the smallrye-metrics extension is present
+     * (default to true).
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "true")
+    public boolean metricsEnabled;
 }
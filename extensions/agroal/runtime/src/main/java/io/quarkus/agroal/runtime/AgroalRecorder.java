@@ -1,5 +1,6 @@
 package io.quarkus.agroal.runtime;
 
+import io.quarkus.agroal.runtime.metrics.AgroalPoolMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.arc.runtime.BeanContainerListener;
@@ -28,6 +29,16 @@ public class AgroalRecorder {
         };
     }
 
+    public BeanContainerListener enablePoolMetrics(
+            Class<? extends AbstractDataSourceProducer> dataSourceProducerClass) {
+        return new BeanContainerListener() {
+            @Override
+            public void created(BeanContainer beanContainer) {
+                beanContainer.instance(dataSourceProducerClass).setPoolMetricsFactory(AgroalPoolMetrics::new);
+            }
+        };
+    }
+
     public void configureRuntimeProperties(AgroalRuntimeConfig agroalRuntimeConfig) {
         // TODO @dmlloyd
         // Same here, the map is entirely empty (obviously, I didn't expect the values
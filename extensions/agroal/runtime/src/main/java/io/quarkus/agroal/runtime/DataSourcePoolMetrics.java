@@ -0,0 +1,17 @@
+package io.quarkus.agroal.runtime;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
+
+/**
+ * Publishes the pool metrics of a datasource.
+ * <p>
+ * It is created before the datasource so that it can listen to its events, then bound to it once started.
+ */
+public interface DataSourcePoolMetrics extends AgroalDataSourceListener, AutoCloseable {
+
+    void bind(AgroalDataSource dataSource);
+
+    @Override
+    void close();
+}
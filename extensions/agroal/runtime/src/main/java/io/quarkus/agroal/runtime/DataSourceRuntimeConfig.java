@@ -65,6 +65,37 @@ public class DataSourceRuntimeConfig {
     @ConfigItem(defaultValue = "20")
     public int maxSize;
 
+    /**
+     * Enable adaptive sizing of the pool.
+     * <p>
+     * When enabled, the maximum size of the pool starts at {@code max-size} and is adjusted periodically based on the
+     * time spent waiting for a connection: it grows when the average wait exceeds {@code adaptive-target-wait} while all
+     * the connections are in use, and shrinks back, one connection at a time, once the pool is underused. It never
+     * goes below {@code max-size} nor above {@code adaptive-max-size}.
+     */
+    @ConfigItem
+    public boolean adaptiveSizing;
+
+    /**
+     * The upper bound of the maximum size of the pool when adaptive sizing is enabled.
+     * <p>
+     * Defaults to twice {@code max-size}.
+     */
+    @ConfigItem
+    public Optional<Integer> adaptiveMaxSize;
+
+    /**
+     * The average connection acquisition time above which the pool is grown when adaptive sizing is enabled.
+     */
+    @ConfigItem(defaultValue = "0.05S")
+    public Duration adaptiveTargetWait;
+
+    /**
+     * The interval at which the size of the pool is adjusted when adaptive sizing is enabled.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration adaptiveInterval;
+
     /**
      * The interval at which we validate idle connections in the background.
      * <p>
@@ -0,0 +1,127 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.quarkus.agroal.runtime.AgroalRecorder;
+import io.quarkus.agroal.runtime.DataSourcePoolMetrics;
+import io.quarkus.smallrye.metrics.runtime.LambdaCounter;
+import io.quarkus.smallrye.metrics.runtime.LambdaGauge;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Publishes the pool metrics of a datasource in the vendor registry of SmallRye Metrics, tagged with the name of the
+ * datasource.
+ */
+public class AgroalPoolMetrics implements DataSourcePoolMetrics {
+
+    private static final String ACQUISITION_TIME = "agroal.acquisition.time";
+
+    private final MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+    private final Tag tag;
+    private final List<MetricID> metricIds = new ArrayList<>();
+    private final Histogram acquisitionTime;
+    // the acquisition of a connection starts and ends on the same thread
+    private final ThreadLocal<long[]> acquisitionStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    public AgroalPoolMetrics(String dataSourceName) {
+        this.tag = new Tag("datasource",
+                AgroalRecorder.DEFAULT_DATASOURCE_NAME.equals(dataSourceName) ? "default" : dataSourceName);
+        this.acquisitionTime = registry.histogram(Metadata.builder()
+                .withName(ACQUISITION_TIME)
+                .withType(MetricType.HISTOGRAM)
+                .withDisplayName("Connection Acquisition Time")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Distribution of the time spent acquiring a connection from the pool.")
+                .build(), tag);
+        metricIds.add(new MetricID(ACQUISITION_TIME, tag));
+    }
+
+    @Override
+    public void bind(AgroalDataSource dataSource) {
+        AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+
+        gauge("agroal.active.count", "Active Connections",
+                "Number of connections in use, they are not available to be acquired.",
+                metrics::activeCount);
+        gauge("agroal.available.count", "Available Connections",
+                "Number of idle connections in the pool, available to be acquired.",
+                metrics::availableCount);
+        gauge("agroal.awaiting.count", "Awaiting Threads",
+                "Approximate number of threads blocked waiting to acquire a connection.",
+                metrics::awaitingCount);
+        gauge("agroal.max.used.count", "Max Used Connections",
+                "Maximum number of connections active simultaneously.",
+                metrics::maxUsedCount);
+        gauge("agroal.max.size", "Max Pool Size",
+                "Current maximum size of the pool.",
+                () -> dataSource.getConfiguration().connectionPoolConfiguration().maxSize());
+        counter("agroal.acquire.count", "Acquired Connections",
+                "Number of times a connection was acquired from the pool.",
+                metrics::acquireCount);
+        counter("agroal.creation.count", "Created Connections",
+                "Number of created connections.",
+                metrics::creationCount);
+        counter("agroal.leak.detection.count", "Leaked Connections",
+                "Number of times a leak was detected. A single connection can be detected multiple times.",
+                metrics::leakDetectionCount);
+    }
+
+    private void gauge(String name, String displayName, String description, LongSupplier value) {
+        register(Metadata.builder()
+                .withName(name)
+                .withType(MetricType.GAUGE)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build(), new LambdaGauge(() -> value.getAsLong()));
+    }
+
+    private void counter(String name, String displayName, String description, LongSupplier value) {
+        register(Metadata.builder()
+                .withName(name)
+                .withType(MetricType.COUNTER)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build(), new LambdaCounter(() -> value.getAsLong()));
+    }
+
+    private void register(Metadata metadata, Metric metric) {
+        registry.register(metadata, metric, tag);
+        metricIds.add(new MetricID(metadata.getName(), tag));
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        acquisitionStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        long start = acquisitionStart.get()[0];
+        if (start != 0) {
+            acquisitionTime.update(System.nanoTime() - start);
+            acquisitionStart.get()[0] = 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (MetricID metricId : metricIds) {
+            registry.remove(metricId);
+        }
+        metricIds.clear();
+    }
+}
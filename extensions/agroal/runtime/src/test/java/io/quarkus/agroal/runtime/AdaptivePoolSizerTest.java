@@ -0,0 +1,143 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+
+class AdaptivePoolSizerTest {
+
+    private static final long TARGET_WAIT = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Pool pool = new Pool();
+    private final AdaptivePoolSizer sizer = new AdaptivePoolSizer("test", pool.dataSource(), 4, 6, TARGET_WAIT);
+
+    @Test
+    void growWhenExhausted() {
+        pool.active = 4;
+        pool.acquire(10, TARGET_WAIT * 2);
+        sizer.run();
+        assertEquals(5, pool.maxSize);
+
+        // connections are still awaited, although the average wait is now below the target
+        pool.active = 5;
+        pool.awaiting = 1;
+        pool.acquire(10, 0);
+        sizer.run();
+        assertEquals(6, pool.maxSize);
+
+        // the upper bound is never exceeded
+        pool.active = 6;
+        pool.acquire(10, TARGET_WAIT * 2);
+        sizer.run();
+        assertEquals(6, pool.maxSize);
+    }
+
+    @Test
+    void shrinkWhenUnderused() {
+        pool.maxSize = 6;
+        pool.acquire(10, 0);
+        sizer.run();
+        assertEquals(5, pool.maxSize);
+        sizer.run();
+        assertEquals(4, pool.maxSize);
+
+        // the configured max size is the lower bound
+        sizer.run();
+        assertEquals(4, pool.maxSize);
+    }
+
+    @Test
+    void keepTheSizeInBetween() {
+        // the pool is exhausted but the connections are acquired fast enough
+        pool.active = 4;
+        pool.acquire(10, TARGET_WAIT * 3 / 4);
+        sizer.run();
+        assertEquals(4, pool.maxSize);
+
+        // the pool is underused but the connections are not acquired fast enough
+        pool.active = 1;
+        pool.maxSize = 5;
+        pool.acquire(10, TARGET_WAIT * 3 / 4);
+        sizer.run();
+        assertEquals(5, pool.maxSize);
+    }
+
+    @Test
+    void measureTheWaitSinceThePreviousRun() {
+        pool.active = 1;
+        pool.acquire(10, TARGET_WAIT * 3);
+        sizer.run();
+        assertEquals(4, pool.maxSize);
+
+        // the pool shrinks although the average wait since the start is still above the target
+        pool.maxSize = 5;
+        pool.acquire(10, 0);
+        sizer.run();
+        assertEquals(4, pool.maxSize);
+    }
+
+    /**
+     * The state of a pool, exposed through proxies of the Agroal interfaces.
+     */
+    static final class Pool {
+
+        int maxSize = 4;
+        long active;
+        long awaiting;
+        long acquireCount;
+        long blockingNanos;
+
+        void acquire(int count, long averageWaitNanos) {
+            acquireCount += count;
+            blockingNanos += count * averageWaitNanos;
+        }
+
+        AgroalDataSource dataSource() {
+            AgroalDataSourceMetrics metrics = proxy(AgroalDataSourceMetrics.class, name -> {
+                switch (name) {
+                    case "acquireCount":
+                        return acquireCount;
+                    case "blockingTimeTotal":
+                        return Duration.ofNanos(blockingNanos);
+                    case "activeCount":
+                        return active;
+                    case "awaitingCount":
+                        return awaiting;
+                    default:
+                        throw new UnsupportedOperationException(name);
+                }
+            });
+            AgroalConnectionPoolConfiguration poolConfiguration = (AgroalConnectionPoolConfiguration) Proxy.newProxyInstance(
+                    Pool.class.getClassLoader(), new Class<?>[] { AgroalConnectionPoolConfiguration.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "maxSize":
+                                return maxSize;
+                            case "setMaxSize":
+                                maxSize = (Integer) args[0];
+                                return null;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            AgroalDataSourceConfiguration configuration = proxy(AgroalDataSourceConfiguration.class,
+                    name -> poolConfiguration);
+            return proxy(AgroalDataSource.class, name -> name.equals("getMetrics") ? metrics : configuration);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, java.util.function.Function<String, Object> answer) {
+            return (T) Proxy.newProxyInstance(Pool.class.getClassLoader(), new Class<?>[] { type },
+                    (proxy, method, args) -> answer.apply(method.getName()));
+        }
+    }
+}
@@ -5,7 +5,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -41,10 +40,12 @@ public class AmazonLambdaRecorder {
     private static ObjectMapper objectMapper = new ObjectMapper();
     private static ObjectReader objectReader;
     private static ObjectWriter objectWriter;
+    private static volatile RequestHandler<?, ?> handler;
 
     public void setHandlerClass(Class<? extends RequestHandler<?, ?>> handler, BeanContainer container) {
         handlerClass = handler;
         beanContainer = container;
+        AmazonLambdaRecorder.handler = null;
         objectMapper = new ObjectMapper()
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
                 .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
@@ -63,11 +64,22 @@ public class AmazonLambdaRecorder {
      */
     public static void handle(InputStream inputStream, OutputStream outputStream, Context context) throws IOException {
         Object request = objectReader.readValue(inputStream);
-        RequestHandler handler = beanContainer.instance(handlerClass);
+        RequestHandler handler = handler();
         Object response = handler.handleRequest(request, context);
         objectWriter.writeValue(outputStream, response);
     }
 
+    /**
+     * The handler is resolved once, on the first invocation.
+     */
+    private static RequestHandler handler() {
+        RequestHandler<?, ?> result = handler;
+        if (result == null) {
+            handler = result = beanContainer.instance(handlerClass);
+        }
+        return result;
+    }
+
     private Method discoverHandlerMethod(Class<? extends RequestHandler<?, ?>> handlerClass) {
         final Method[] methods = handlerClass.getMethods();
         Method method = null;
@@ -125,6 +137,7 @@ public class AmazonLambdaRecorder {
 
         ObjectReader cognitoIdReader = objectMapper.readerFor(CognitoIdentity.class);
         ObjectReader clientCtxReader = objectMapper.readerFor(ClientContext.class);
+        ObjectWriter writer = objectMapper.writer();
 
         context.addShutdownTask(new Runnable() {
             @Override
@@ -137,29 +150,30 @@ public class AmazonLambdaRecorder {
             @Override
             public void run() {
 
+                AmazonLambdaRuntimeClient client = null;
                 try {
                     checkQuarkusBootstrapped();
-                    URL requestUrl = AmazonLambdaApi.invocationNext();
+                    client = new AmazonLambdaRuntimeClient();
+                    RequestHandler handler = handler();
                     while (running.get()) {
 
-                        HttpURLConnection requestConnection = (HttpURLConnection) requestUrl.openConnection();
                         try {
+                            HttpURLConnection requestConnection = client.nextInvocation();
                             String requestId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
                             Object response;
                             try {
-                                Object val = objectReader.readValue(requestConnection.getInputStream());
-                                RequestHandler handler = beanContainer.instance(handlerClass);
+                                Object val = client.readInvocation(objectReader);
                                 response = handler.handleRequest(val,
                                         new AmazonLambdaContext(requestConnection, cognitoIdReader, clientCtxReader));
                             } catch (Exception e) {
                                 log.error("Failed to run lambda", e);
 
-                                postResponse(AmazonLambdaApi.invocationError(requestId),
-                                        new FunctionError(e.getClass().getName(), e.getMessage()), objectMapper);
+                                client.postResponse(AmazonLambdaApi.invocationError(requestId),
+                                        new FunctionError(e.getClass().getName(), e.getMessage()), writer);
                                 continue;
                             }
 
-                            postResponse(AmazonLambdaApi.invocationResponse(requestId), response, objectMapper);
+                            client.postResponse(AmazonLambdaApi.invocationResponse(requestId), response, writer);
                         } catch (Exception e) {
                             log.error("Error running lambda", e);
                             Application app = Application.currentApplication();
@@ -167,8 +181,6 @@ public class AmazonLambdaRecorder {
                                 app.stop();
                             }
                             return;
-                        } finally {
-                            requestConnection.getInputStream().close();
                         }
 
                     }
@@ -176,8 +188,11 @@ public class AmazonLambdaRecorder {
                 } catch (Exception e) {
                     try {
                         log.error("Lambda init error", e);
-                        postResponse(AmazonLambdaApi.initError(), new FunctionError(e.getClass().getName(), e.getMessage()),
-                                objectMapper);
+                        if (client == null) {
+                            client = new AmazonLambdaRuntimeClient();
+                        }
+                        client.postResponse(AmazonLambdaApi.initError(),
+                                new FunctionError(e.getClass().getName(), e.getMessage()), writer);
                     } catch (Exception ex) {
                         log.error("Failed to report init error", ex);
                     } finally {
@@ -203,14 +218,4 @@ public class AmazonLambdaRecorder {
         Application.currentApplication().start(args);
     }
 
-    private void postResponse(URL url, Object response, ObjectMapper mapper) throws IOException {
-        HttpURLConnection responseConnection = (HttpURLConnection) url.openConnection();
-        responseConnection.setDoOutput(true);
-        responseConnection.setRequestMethod("POST");
-        mapper.writeValue(responseConnection.getOutputStream(), response);
-        while (responseConnection.getInputStream().read() != -1) {
-            // Read data
-        }
-    }
-
 }
@@ -0,0 +1,102 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Client of the Lambda runtime API, used by the single thread of the poll loop.
+ * <p>
+ * The bodies are read and written through buffers reused for every invocation, and sent with a {@code Content-Length}.
+ * Every exchange is consumed to the end so that the JDK keeps the underlying connection alive and reuses it for the next
+ * one.
+ */
+final class AmazonLambdaRuntimeClient {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final URL invocationNext;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private byte[] requestBuffer = new byte[INITIAL_BUFFER_SIZE];
+    private int requestLength;
+
+    AmazonLambdaRuntimeClient() throws IOException {
+        this.invocationNext = AmazonLambdaApi.invocationNext();
+    }
+
+    /**
+     * Waits for the next invocation and reads its payload.
+     *
+     * @return the connection, its headers describe the invocation
+     */
+    HttpURLConnection nextInvocation() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) invocationNext.openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            long contentLength = connection.getContentLengthLong();
+            if (contentLength > requestBuffer.length) {
+                requestBuffer = new byte[(int) contentLength];
+            }
+            int length = 0;
+            int read;
+            while ((read = in.read(requestBuffer, length, requestBuffer.length - length)) != -1) {
+                length += read;
+                if (length == requestBuffer.length) {
+                    if (length == contentLength) {
+                        break;
+                    }
+                    requestBuffer = Arrays.copyOf(requestBuffer, requestBuffer.length * 2);
+                }
+            }
+            requestLength = length;
+        }
+        return connection;
+    }
+
+    /**
+     * Reads the payload of the current invocation.
+     */
+    <T> T readInvocation(ObjectReader reader) throws IOException {
+        return reader.readValue(requestBuffer, 0, requestLength);
+    }
+
+    void postResponse(URL url, Object response, ObjectWriter writer) throws IOException {
+        buffer.reset();
+        writer.writeValue(buffer, response);
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setDoOutput(true);
+        connection.setRequestMethod("POST");
+        connection.setFixedLengthStreamingMode(buffer.size());
+        try (OutputStream out = connection.getOutputStream()) {
+            // writes the internal array of the buffer, without copying it
+            buffer.writeTo(out);
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        if (in != null) {
+            try {
+                drain(in);
+            } finally {
+                in.close();
+            }
+        }
+        if (status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            throw new IOException("Server returned HTTP response code: " + status + " for URL: " + url);
+        }
+    }
+
+    private void drain(InputStream in) throws IOException {
+        while (in.read(requestBuffer) != -1) {
+            // Read data
+        }
+    }
+}
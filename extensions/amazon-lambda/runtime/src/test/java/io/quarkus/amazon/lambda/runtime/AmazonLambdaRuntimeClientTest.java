@@ -0,0 +1,113 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class AmazonLambdaRuntimeClientTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> responses = new CopyOnWriteArrayList<>();
+    private final List<String> responseLengths = new CopyOnWriteArrayList<>();
+    private final Set<Integer> clientPorts = new HashSet<>();
+    private HttpServer server;
+    private int invocation;
+
+    @BeforeEach
+    public void startRuntimeApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(AmazonLambdaApi.API_PATH_INVOCATION_NEXT, exchange -> {
+            String requestId = "request-" + (++invocation);
+            exchange.getResponseHeaders().add(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID, requestId);
+            // larger than the initial buffer so that it has to grow
+            StringBuilder payload = new StringBuilder("{\"id\":\"" + requestId + "\",\"padding\":\"");
+            for (int i = 0; i < 10_000; i++) {
+                payload.append('x');
+            }
+            payload.append("\"}");
+            respond(exchange, 200, payload.toString());
+        });
+        server.createContext(AmazonLambdaApi.API_PATH_INVOCATION, exchange -> {
+            responses.add(exchange.getRequestURI().getPath() + " " + read(exchange.getRequestBody()));
+            responseLengths.add(exchange.getRequestHeaders().getFirst("Content-Length"));
+            respond(exchange, 202, "{\"status\":\"OK\"}");
+        });
+        server.start();
+        System.setProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API,
+                "localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    public void stopRuntimeApi() {
+        System.clearProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API);
+        server.stop(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvocationsShareTheConnection() throws Exception {
+        AmazonLambdaRuntimeClient client = new AmazonLambdaRuntimeClient();
+        for (int i = 1; i <= 3; i++) {
+            HttpURLConnection connection = client.nextInvocation();
+            String requestId = connection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
+            assertEquals("request-" + i, requestId);
+
+            Map<String, String> payload = client.readInvocation(mapper.readerFor(Map.class));
+            assertEquals(requestId, payload.get("id"));
+            assertEquals(10_000, payload.get("padding").length());
+
+            client.postResponse(AmazonLambdaApi.invocationResponse(requestId), "hello " + i, mapper.writer());
+        }
+
+        assertEquals(3, responses.size());
+        for (int i = 1; i <= 3; i++) {
+            String body = "\"hello " + i + "\"";
+            assertEquals(AmazonLambdaApi.API_PATH_INVOCATION + "request-" + i + AmazonLambdaApi.API_PATH_RESPONSE + " "
+                    + body, responses.get(i - 1));
+            assertEquals(String.valueOf(body.length()), responseLengths.get(i - 1));
+        }
+        synchronized (clientPorts) {
+            assertEquals(1, clientPorts.size(), "All the exchanges should use the same connection");
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        synchronized (clientPorts) {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+        }
+        byte[] data = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, data.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(data);
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -110,7 +110,7 @@ public class NoArgsConstructorProcessor {
                                 };
                                 return cv;
                             }
-                        }));
+                        }, superClassName));
             }
         }
 
@@ -0,0 +1,82 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_INTERCEPTOR_BINDING;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_INTERCEPTOR_BINDING;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_INTERCEPTOR_BINDING;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.LOCK_TIMEOUT_PARAM;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.arc.processor.AnnotationsTransformer;
+
+/**
+ * Replaces the cache annotations with the corresponding interceptor bindings. The positions of the key arguments are
+ * resolved here, so that the interceptors can compute the cache key without any reflection.
+ */
+public class CacheAnnotationsTransformer implements AnnotationsTransformer {
+
+    static final String CACHE_KEY_PARAMETER_POSITIONS_PARAM = "cacheKeyParameterPositions";
+
+    @Override
+    public boolean appliesTo(Kind kind) {
+        return Kind.METHOD == kind;
+    }
+
+    @Override
+    public void transform(TransformationContext context) {
+        MethodInfo method = context.getTarget().asMethod();
+        List<AnnotationInstance> bindings = new ArrayList<>();
+        for (AnnotationInstance annotation : context.getAnnotations()) {
+            if (annotation.target() == null || annotation.target().kind() != Kind.METHOD) {
+                continue;
+            }
+            if (CACHE_RESULT.equals(annotation.name())) {
+                List<AnnotationValue> values = new ArrayList<>();
+                values.add(annotation.value(CACHE_NAME_PARAM));
+                values.add(cacheKeyParameterPositions(method));
+                AnnotationValue lockTimeout = annotation.value(LOCK_TIMEOUT_PARAM);
+                if (lockTimeout != null) {
+                    values.add(lockTimeout);
+                }
+                bindings.add(AnnotationInstance.create(CACHE_RESULT_INTERCEPTOR_BINDING, method, values));
+            } else if (CACHE_INVALIDATE.equals(annotation.name())) {
+                bindings.add(AnnotationInstance.create(CACHE_INVALIDATE_INTERCEPTOR_BINDING, method,
+                        new AnnotationValue[] { annotation.value(CACHE_NAME_PARAM), cacheKeyParameterPositions(method) }));
+            } else if (CACHE_INVALIDATE_ALL.equals(annotation.name())) {
+                bindings.add(AnnotationInstance.create(CACHE_INVALIDATE_ALL_INTERCEPTOR_BINDING, method,
+                        new AnnotationValue[] { annotation.value(CACHE_NAME_PARAM) }));
+            }
+        }
+        if (!bindings.isEmpty()) {
+            context.transform().addAll(bindings).done();
+        }
+    }
+
+    private static AnnotationValue cacheKeyParameterPositions(MethodInfo method) {
+        List<Integer> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations()) {
+            AnnotationTarget target = annotation.target();
+            if (target.kind() == Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
+                positions.add((int) target.asMethodParameter().position());
+            }
+        }
+        positions.sort(null);
+        AnnotationValue[] values = new AnnotationValue[positions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = AnnotationValue.createIntegerValue("", positions.get(i));
+        }
+        return AnnotationValue.createArrayValue(CACHE_KEY_PARAMETER_POSITIONS_PARAM, values);
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.cache.deployment;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheInvalidateAllInterceptorBinding;
+import io.quarkus.cache.runtime.CacheInvalidateInterceptorBinding;
+import io.quarkus.cache.runtime.CacheResultInterceptorBinding;
+
+final class CacheDeploymentConstants {
+
+    static final DotName CACHE_RESULT = DotName.createSimple(CacheResult.class.getName());
+    static final DotName CACHE_INVALIDATE = DotName.createSimple(CacheInvalidate.class.getName());
+    static final DotName CACHE_INVALIDATE_ALL = DotName.createSimple(CacheInvalidateAll.class.getName());
+    static final DotName CACHE_KEY = DotName.createSimple(CacheKey.class.getName());
+
+    static final DotName CACHE_RESULT_INTERCEPTOR_BINDING = DotName
+            .createSimple(CacheResultInterceptorBinding.class.getName());
+    static final DotName CACHE_INVALIDATE_INTERCEPTOR_BINDING = DotName
+            .createSimple(CacheInvalidateInterceptorBinding.class.getName());
+    static final DotName CACHE_INVALIDATE_ALL_INTERCEPTOR_BINDING = DotName
+            .createSimple(CacheInvalidateAllInterceptorBinding.class.getName());
+
+    static final String CACHE_NAME_PARAM = "cacheName";
+    static final String LOCK_TIMEOUT_PARAM = "lockTimeout";
+
+    private CacheDeploymentConstants() {
+    }
+}
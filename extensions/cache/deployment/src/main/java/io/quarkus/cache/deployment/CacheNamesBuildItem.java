@@ -0,0 +1,21 @@
+package io.quarkus.cache.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The names of all the caches referenced by the cache annotations of the application.
+ */
+public final class CacheNamesBuildItem extends SimpleBuildItem {
+
+    private final Set<String> names;
+
+    public CacheNamesBuildItem(Set<String> names) {
+        this.names = names;
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
+import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
+import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheRecorder;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.cache.runtime.CaffeineCacheConfig;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+
+public class CacheProcessor {
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FeatureBuildItem.CACHE);
+    }
+
+    @BuildStep
+    AnnotationsTransformerBuildItem annotationsTransformer(CacheConfig config) {
+        if (!config.enabled) {
+            return null;
+        }
+        return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem additionalBeans(CacheConfig config) {
+        if (!config.enabled) {
+            return null;
+        }
+        return AdditionalBeanBuildItem.builder().setUnremovable()
+                .addBeanClasses(CacheRepository.class, CacheResultInterceptor.class, CacheInvalidateInterceptor.class,
+                        CacheInvalidateAllInterceptor.class)
+                .build();
+    }
+
+    @BuildStep
+    CacheNamesBuildItem validateCacheAnnotations(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ValidationErrorBuildItem> errors) {
+        Set<String> names = new HashSet<>();
+        for (DotName annotationName : Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_ALL)) {
+            for (AnnotationInstance annotation : combinedIndex.getIndex().getAnnotations(annotationName)) {
+                if (annotation.target().kind() != Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotation.target().asMethod();
+                if (CACHE_RESULT.equals(annotationName) && method.returnType().kind() == Type.Kind.VOID) {
+                    errors.produce(new ValidationErrorBuildItem(new IllegalStateException(String.format(
+                            "The @CacheResult annotation is not allowed on a method returning void [method: %s, class: %s]",
+                            method.name(), method.declaringClass().name()))));
+                }
+                names.add(annotation.value(CACHE_NAME_PARAM).asString());
+            }
+        }
+        return new CacheNamesBuildItem(names);
+    }
+
+    @BuildStep
+    @Record(STATIC_INIT)
+    BeanContainerListenerBuildItem recordCachesBuild(CacheRecorder recorder, CacheNamesBuildItem cacheNames,
+            CacheConfig config) {
+        if (!config.enabled) {
+            return null;
+        }
+        Set<CaffeineCacheInfo> cacheInfos = new HashSet<>();
+        for (String name : cacheNames.getNames()) {
+            CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+            cacheInfo.setName(name);
+            CaffeineCacheConfig cacheConfig = config.caffeine.caches.get(name);
+            if (cacheConfig != null) {
+                if (cacheConfig.initialCapacity.isPresent()) {
+                    cacheInfo.setInitialCapacity(cacheConfig.initialCapacity.getAsInt());
+                }
+                if (cacheConfig.maximumSize.isPresent()) {
+                    cacheInfo.setMaximumSize(cacheConfig.maximumSize.getAsLong());
+                }
+                cacheConfig.expireAfterWrite.ifPresent(d -> cacheInfo.setExpireAfterWrite(d.toNanos()));
+                cacheConfig.expireAfterAccess.ifPresent(d -> cacheInfo.setExpireAfterAccess(d.toNanos()));
+            }
+            cacheInfos.add(cacheInfo);
+        }
+        return new BeanContainerListenerBuildItem(recorder.initializeCaches(cacheInfos));
+    }
+}
@@ -0,0 +1,131 @@
+package io.quarkus.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheResultTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CachedService.class)
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.simple.maximum-size=100\n"
+                            + "quarkus.cache.caffeine.keys.expire-after-write=10M"), "application.properties"));
+
+    @Inject
+    CachedService service;
+
+    @Test
+    public void testCacheResult() {
+        assertEquals("a-1", service.get("a"));
+        assertEquals("a-1", service.get("a"));
+        assertEquals("b-2", service.get("b"));
+        assertEquals(2, CachedService.invocations.get());
+
+        service.invalidate("a");
+        assertEquals("a-3", service.get("a"));
+        assertEquals("b-2", service.get("b"));
+
+        service.invalidateAll();
+        assertEquals("a-4", service.get("a"));
+        assertEquals("b-5", service.get("b"));
+    }
+
+    @Test
+    public void testCacheKey() {
+        assertEquals("x-1", service.getWithKey("ignored", "x", 1));
+        assertEquals("x-1", service.getWithKey("other", "x", 1));
+        assertEquals(1, CachedService.keyInvocations.get());
+        service.getWithKey("ignored", "x", 2);
+        assertEquals(2, CachedService.keyInvocations.get());
+    }
+
+    @Test
+    public void testNullKey() {
+        assertEquals("null-1", service.getNullable(null));
+        assertEquals("null-1", service.getNullable(null));
+        assertEquals("a-2", service.getNullable("a"));
+        assertEquals(2, CachedService.nullKeyInvocations.get());
+
+        service.invalidateNullable(null);
+        assertEquals("null-3", service.getNullable(null));
+        assertEquals("a-2", service.getNullable("a"));
+
+        // a null element of a composite key behaves the same way
+        assertEquals("null-1", service.getWithKey("ignored", null, 1));
+        assertEquals("null-1", service.getWithKey("other", null, 1));
+        assertEquals(1, CachedService.compositeNullKeyInvocations.get());
+    }
+
+    @Test
+    public void testNullValue() {
+        assertNull(service.getNull());
+        assertNull(service.getNull());
+        assertEquals(1, CachedService.nullInvocations.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final AtomicInteger keyInvocations = new AtomicInteger();
+        static final AtomicInteger nullInvocations = new AtomicInteger();
+        static final AtomicInteger nullKeyInvocations = new AtomicInteger();
+        static final AtomicInteger compositeNullKeyInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = "simple")
+        public String get(String key) {
+            return key + "-" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = "simple")
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = "simple")
+        public void invalidateAll() {
+        }
+
+        @CacheResult(cacheName = "keys")
+        public String getWithKey(String notPartOfTheKey, @CacheKey String key, @CacheKey int version) {
+            if (key == null) {
+                compositeNullKeyInvocations.incrementAndGet();
+            } else {
+                keyInvocations.incrementAndGet();
+            }
+            return key + "-" + version;
+        }
+
+        @CacheResult(cacheName = "nullable")
+        public String getNullable(String key) {
+            return key + "-" + nullKeyInvocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = "nullable")
+        public void invalidateNullable(String key) {
+        }
+
+        @CacheResult(cacheName = "null")
+        public String getNull() {
+            nullInvocations.incrementAndGet();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentCacheResultTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SlowService.class));
+
+    @Inject
+    SlowService service;
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> service.get("key")));
+            }
+            // let all the invocations reach the cache before the first one completes
+            Thread.sleep(200);
+            SlowService.latch.countDown();
+            for (Future<String> result : results) {
+                assertEquals("key-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, SlowService.invocations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    static class SlowService {
+
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final CountDownLatch latch = new CountDownLatch(1);
+
+        @CacheResult(cacheName = "slow")
+        public String get(String key) throws InterruptedException {
+            int invocation = invocations.incrementAndGet();
+            latch.await(5, TimeUnit.SECONDS);
+            return key + "-" + invocation;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * When a method annotated with {@link CacheInvalidate} is invoked, a cache key is computed from the method arguments the
+ * same way as for {@link CacheResult} and the corresponding entry is removed from the cache before the method is
+ * invoked.
+ *
+ * @see CacheResult
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface CacheInvalidate {
+
+    /**
+     * @return the name of the cache
+     */
+    String cacheName();
+}
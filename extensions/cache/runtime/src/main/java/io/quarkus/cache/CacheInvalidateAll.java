@@ -0,0 +1,23 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * When a method annotated with {@link CacheInvalidateAll} is invoked, all the entries of the cache are removed before
+ * the method is invoked.
+ *
+ * @see CacheResult
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface CacheInvalidateAll {
+
+    /**
+     * @return the name of the cache
+     */
+    String cacheName();
+}
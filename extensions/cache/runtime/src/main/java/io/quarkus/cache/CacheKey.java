@@ -0,0 +1,16 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Identifies the arguments of a method annotated with {@link CacheResult} or {@link CacheInvalidate} that are part of
+ * the cache key. If no argument is annotated, all the arguments are part of the key.
+ */
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface CacheKey {
+}
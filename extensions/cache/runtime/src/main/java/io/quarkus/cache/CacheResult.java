@@ -0,0 +1,53 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * When a method annotated with {@link CacheResult} is invoked, a cache key is computed from the method arguments and
+ * used to look up a value in the cache. If a value is found, it is returned and the method is not invoked. Otherwise
+ * the method is invoked and its result is stored in the cache.
+ * <p>
+ * The key is built from the arguments annotated with {@link CacheKey}, or from all the arguments if none is annotated.
+ * A method without arguments uses a single default key. A {@code null} argument is a valid key.
+ * <p>
+ * Concurrent invocations with the same key while the value is being computed do not invoke the method again, they wait
+ * for the value computed by the first invocation.
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * class WeatherForecastService {
+ *
+ *     &#64;CacheResult(cacheName = "weather-cache")
+ *     String getDailyForecast(LocalDate date, String city) {
+ *         // a slow call to a remote service
+ *     }
+ * }
+ * </pre>
+ *
+ * Methods returning {@code void} can't be annotated with {@link CacheResult}.
+ *
+ * @see CacheInvalidate
+ * @see CacheInvalidateAll
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface CacheResult {
+
+    /**
+     * @return the name of the cache
+     */
+    String cacheName();
+
+    /**
+     * The maximum time, in milliseconds, an invocation waits for a concurrent invocation with the same key to compute
+     * the value. When the delay expires, the method is invoked and its result is returned without being cached. The
+     * default value {@code 0} means the invocation waits as long as necessary.
+     *
+     * @return the lock timeout
+     */
+    long lockTimeout() default 0;
+}
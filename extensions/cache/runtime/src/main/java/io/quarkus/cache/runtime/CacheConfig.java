@@ -0,0 +1,21 @@
+package io.quarkus.cache.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "cache", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class CacheConfig {
+
+    /**
+     * Whether or not the cache extension is enabled. When disabled, the cache annotations have no effect.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+
+    /**
+     * Caffeine configuration.
+     */
+    @ConfigItem
+    public CaffeineConfig caffeine;
+}
@@ -0,0 +1,89 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.runtime.InterceptorBindings;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+public abstract class CacheInterceptor {
+
+    /**
+     * The key of the invocations of a method without arguments.
+     */
+    static final Object DEFAULT_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "default-cache-key";
+        }
+    };
+
+    /**
+     * The key of the invocations with a single {@code null} key argument, like the {@code null} elements of a
+     * {@link CompositeCacheKey}.
+     */
+    static final Object NULL_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "null-cache-key";
+        }
+    };
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    /**
+     * The bindings are annotation literals generated at build time, so the members can be read without reflection.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends Annotation> T getBinding(InvocationContext context, Class<T> bindingType) {
+        Set<Annotation> bindings = context instanceof ArcInvocationContext
+                ? ((ArcInvocationContext) context).getInterceptorBindings()
+                : InterceptorBindings.getInterceptorBindings(context);
+        for (Annotation binding : bindings) {
+            if (binding.annotationType() == bindingType) {
+                return (T) binding;
+            }
+        }
+        throw new IllegalStateException("Interceptor binding " + bindingType.getName() + " not found");
+    }
+
+    protected CaffeineCache getCache(String cacheName) {
+        CaffeineCache cache = cacheRepository.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache: " + cacheName);
+        }
+        return cache;
+    }
+
+    /**
+     * @param parameters the arguments of the invocation
+     * @param keyParameterPositions the positions of the arguments that are part of the key, all the arguments are used
+     *        if empty
+     * @return the cache key, a {@code null} argument is a valid key
+     */
+    protected static Object getCacheKey(Object[] parameters, int[] keyParameterPositions) {
+        Object key;
+        if (keyParameterPositions.length == 1) {
+            key = parameters[keyParameterPositions[0]];
+        } else if (keyParameterPositions.length > 1) {
+            Object[] elements = new Object[keyParameterPositions.length];
+            for (int i = 0; i < keyParameterPositions.length; i++) {
+                elements[i] = parameters[keyParameterPositions[i]];
+            }
+            return new CompositeCacheKey(elements);
+        } else if (parameters.length == 0) {
+            return DEFAULT_KEY;
+        } else if (parameters.length == 1) {
+            key = parameters[0];
+        } else {
+            return new CompositeCacheKey(Arrays.copyOf(parameters, parameters.length));
+        }
+        return key != null ? key : NULL_KEY;
+    }
+}
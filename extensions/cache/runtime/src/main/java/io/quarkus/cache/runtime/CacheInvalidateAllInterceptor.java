@@ -0,0 +1,19 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@CacheInvalidateAllInterceptorBinding
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 10)
+public class CacheInvalidateAllInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheInvalidateAllInterceptorBinding binding = getBinding(context, CacheInvalidateAllInterceptorBinding.class);
+        getCache(binding.cacheName()).invalidateAll();
+        return context.proceed();
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cache.runtime;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Added at build time to the methods annotated with {@link io.quarkus.cache.CacheInvalidateAll}. The members are computed
+ * from the method signature, so that nothing has to be resolved when the method is invoked.
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface CacheInvalidateAllInterceptorBinding {
+
+    @Nonbinding
+    String cacheName() default "";
+}
@@ -0,0 +1,20 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@CacheInvalidateInterceptorBinding
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 10)
+public class CacheInvalidateInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheInvalidateInterceptorBinding binding = getBinding(context, CacheInvalidateInterceptorBinding.class);
+        Object key = getCacheKey(context.getParameters(), binding.cacheKeyParameterPositions());
+        getCache(binding.cacheName()).invalidate(key);
+        return context.proceed();
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.cache.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.arc.runtime.BeanContainerListener;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CacheRecorder {
+
+    public BeanContainerListener initializeCaches(Set<CaffeineCacheInfo> cacheInfos) {
+        return new BeanContainerListener() {
+            @Override
+            public void created(BeanContainer beanContainer) {
+                Map<String, CaffeineCache> caches = new HashMap<>();
+                for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+                    caches.put(cacheInfo.getName(), new CaffeineCache(cacheInfo));
+                }
+                beanContainer.instance(CacheRepository.class).setCaches(caches);
+            }
+        };
+    }
+}
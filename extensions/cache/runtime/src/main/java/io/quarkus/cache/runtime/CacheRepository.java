@@ -0,0 +1,30 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+/**
+ * Holds the caches used by the cache interceptors, they are created when the container starts.
+ */
+@ApplicationScoped
+public class CacheRepository {
+
+    private volatile Map<String, CaffeineCache> caches = Collections.emptyMap();
+
+    public void setCaches(Map<String, CaffeineCache> caches) {
+        this.caches = caches;
+    }
+
+    public CaffeineCache getCache(String cacheName) {
+        return caches.get(cacheName);
+    }
+
+    public Set<String> getCacheNames() {
+        return caches.keySet();
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+// runs after the security interceptors, a cached value must not be returned to a caller that is not allowed to see it
+@CacheResultInterceptorBinding
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 10)
+public class CacheResultInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheResultInterceptorBinding binding = getBinding(context, CacheResultInterceptorBinding.class);
+        Object key = getCacheKey(context.getParameters(), binding.cacheKeyParameterPositions());
+        return getCache(binding.cacheName()).get(key, context::proceed, binding.lockTimeout());
+    }
+}
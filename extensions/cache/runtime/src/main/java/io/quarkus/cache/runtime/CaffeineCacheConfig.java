@@ -0,0 +1,38 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CaffeineCacheConfig {
+
+    /**
+     * The minimum total size of the internal data structures of the cache.
+     */
+    @ConfigItem
+    public OptionalInt initialCapacity;
+
+    /**
+     * The maximum number of entries the cache may contain. When the limit is reached, the entries that are the least
+     * likely to be used again are evicted.
+     */
+    @ConfigItem
+    public OptionalLong maximumSize;
+
+    /**
+     * The delay after which an entry is removed from the cache once it has been created or replaced.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * The delay after which an entry is removed from the cache once it has been created, replaced or read.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterAccess;
+}
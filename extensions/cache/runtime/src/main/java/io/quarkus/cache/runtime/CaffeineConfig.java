@@ -0,0 +1,16 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class CaffeineConfig {
+
+    /**
+     * The configuration of the caches, by cache name.
+     */
+    @ConfigItem(name = ConfigItem.PARENT)
+    public Map<String, CaffeineCacheConfig> caches;
+}
@@ -0,0 +1,39 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Arrays;
+
+/**
+ * The key of the invocations of a method with several key arguments. The elements may be {@code null}.
+ */
+public final class CompositeCacheKey {
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    public CompositeCacheKey(Object... elements) {
+        this.elements = elements;
+        this.hashCode = Arrays.deepHashCode(elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompositeCacheKey)) {
+            return false;
+        }
+        CompositeCacheKey other = (CompositeCacheKey) obj;
+        return hashCode == other.hashCode && Arrays.deepEquals(elements, other.elements);
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeCacheKey" + Arrays.deepToString(elements);
+    }
+}
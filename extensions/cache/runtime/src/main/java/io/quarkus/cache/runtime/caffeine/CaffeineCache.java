@@ -0,0 +1,106 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A cache backed by Caffeine.
+ * <p>
+ * Every entry holds the future of its value, so that the concurrent invocations that miss the same key wait for the value
+ * computed by the first one instead of computing it again. The value is computed by the thread that missed first, in
+ * the context of its own invocation.
+ */
+public class CaffeineCache {
+
+    /**
+     * Caffeine doesn't accept {@code null} values, they are replaced with this object.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final String name;
+
+    private final Cache<Object, CompletableFuture<Object>> cache;
+
+    public CaffeineCache(CaffeineCacheInfo cacheInfo) {
+        this.name = cacheInfo.getName();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (cacheInfo.getInitialCapacity() != null) {
+            builder.initialCapacity(cacheInfo.getInitialCapacity());
+        }
+        if (cacheInfo.getMaximumSize() != null) {
+            builder.maximumSize(cacheInfo.getMaximumSize());
+        }
+        if (cacheInfo.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(cacheInfo.getExpireAfterWrite(), TimeUnit.NANOSECONDS);
+        }
+        if (cacheInfo.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(cacheInfo.getExpireAfterAccess(), TimeUnit.NANOSECONDS);
+        }
+        this.cache = builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the value associated with the key, computing it with the given loader if needed.
+     *
+     * @param key the key
+     * @param valueLoader computes the value on a miss
+     * @param lockTimeout the maximum time in milliseconds to wait for a concurrent computation of the value, or
+     *        {@code 0} to wait as long as necessary
+     * @return the value
+     * @throws Exception if the value could not be computed
+     */
+    public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
+        CompletableFuture<Object> future = cache.getIfPresent(key);
+        if (future == null) {
+            CompletableFuture<Object> newFuture = new CompletableFuture<>();
+            future = cache.asMap().putIfAbsent(key, newFuture);
+            if (future == null) {
+                Object value;
+                try {
+                    value = valueLoader.call();
+                } catch (Throwable t) {
+                    // failures are not cached
+                    cache.asMap().remove(key, newFuture);
+                    newFuture.completeExceptionally(t);
+                    throw t;
+                }
+                newFuture.complete(value == null ? NULL_VALUE : value);
+                return value;
+            }
+        }
+        Object value;
+        try {
+            value = lockTimeout > 0 ? future.get(lockTimeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (TimeoutException e) {
+            return valueLoader.call();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        return value == NULL_VALUE ? null : value;
+    }
+
+    public void invalidate(Object key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.cache.runtime.caffeine;
+
+/**
+ * The settings of a cache, resolved at build time from the configuration.
+ */
+public class CaffeineCacheInfo {
+
+    private String name;
+    private Integer initialCapacity;
+    private Long maximumSize;
+    private Long expireAfterWrite;
+    private Long expireAfterAccess;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(Integer initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public Long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(Long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the delay in nanoseconds, or {@code null}
+     */
+    public Long getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Long expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * @return the delay in nanoseconds, or {@code null}
+     */
+    public Long getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Long expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+}
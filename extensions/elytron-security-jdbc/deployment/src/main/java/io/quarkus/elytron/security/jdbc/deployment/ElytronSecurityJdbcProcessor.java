@@ -46,7 +46,7 @@ class ElytronSecurityJdbcProcessor {
             Optional<DataSourceInitializedBuildItem> dataSourceInitialized) throws Exception {
         if (jdbc.enabled) {
             RuntimeValue<SecurityRealm> realm = recorder.createRealm(jdbc);
-            securityRealm.produce(new SecurityRealmBuildItem(realm, jdbc.realmName, null));
+            securityRealm.produce(new SecurityRealmBuildItem(realm, jdbc.realmName, null, jdbc.cache));
         }
     }
 
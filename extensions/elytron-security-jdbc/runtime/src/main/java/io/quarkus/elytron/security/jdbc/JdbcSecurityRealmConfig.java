@@ -1,5 +1,6 @@
 package io.quarkus.elytron.security.jdbc;
 
+import io.quarkus.elytron.security.runtime.IdentityCacheConfig;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -30,12 +31,19 @@ public class JdbcSecurityRealmConfig {
     public PrincipalQueriesConfig principalQueries;
     //  https://github.com/wildfly/wildfly-core/blob/master/elytron/src/test/resources/org/wildfly/extension/elytron/security-realms.xml#L18
 
+    /**
+     * The verified identity cache config
+     */
+    @ConfigItem
+    public IdentityCacheConfig cache;
+
     @Override
     public String toString() {
         return "JdbcRealmConfig{" +
                 ", realmName='" + realmName + '\'' +
                 ", enabled=" + enabled +
                 ", principalQueries=" + principalQueries +
+                ", cache=" + cache +
                 '}';
     }
 }
@@ -74,8 +74,8 @@ class ElytronPropertiesProcessor {
             resources.produce(new NativeImageResourceBuildItem(realmConfig.users, realmConfig.roles));
             // Have the runtime recorder create the LegacyPropertiesSecurityRealm and create the build item
             RuntimeValue<SecurityRealm> realm = recorder.createRealm(realmConfig);
-            securityRealm
-                    .produce(new SecurityRealmBuildItem(realm, realmConfig.realmName, recorder.loadRealm(realm, realmConfig)));
+            securityRealm.produce(new SecurityRealmBuildItem(realm, realmConfig.realmName,
+                    recorder.loadRealm(realm, realmConfig), realmConfig.cache));
             // Return the realm authentication mechanism build item
         }
     }
@@ -126,8 +126,8 @@ class ElytronPropertiesProcessor {
             }
 
             RuntimeValue<SecurityRealm> realm = recorder.createRealm(realmConfig);
-            securityRealm
-                    .produce(new SecurityRealmBuildItem(realm, realmConfig.realmName, recorder.loadRealm(realm, realmConfig)));
+            securityRealm.produce(new SecurityRealmBuildItem(realm, realmConfig.realmName,
+                    recorder.loadRealm(realm, realmConfig), realmConfig.cache));
         }
     }
 }
@@ -0,0 +1,82 @@
+package io.quarkus.security.test;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests of BASIC authentication with the verified identity cache of the properties file realm enabled. The realm
+ * creates a new identity each time it verifies a password, so a request served from the cache is recognized by the
+ * identity instance it gets.
+ */
+public class IdentityCacheTestCase {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestSecureServlet.class, RecordingIdentityAugmentor.class)
+                    .addAsResource("application-identity-cache.properties", "application.properties")
+                    .addAsResource("test-users.properties")
+                    .addAsResource("test-roles.properties"));
+
+    @Inject
+    RecordingIdentityAugmentor augmentor;
+
+    @BeforeEach
+    public void clearIdentities() {
+        augmentor.getIdentities().clear();
+    }
+
+    @Test()
+    public void testCachedIdentity() {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().auth().preemptive().basic("stuart", "test")
+                    .when().get("/secure-test").then()
+                    .statusCode(200);
+        }
+        List<SecurityIdentity> identities = augmentor.getIdentities();
+        Assertions.assertEquals(3, identities.size());
+        Assertions.assertSame(identities.get(0), identities.get(1));
+        Assertions.assertSame(identities.get(0), identities.get(2));
+    }
+
+    @Test()
+    public void testWrongPasswordOfCachedIdentity() {
+        RestAssured.given().auth().preemptive().basic("stuart", "test")
+                .when().get("/secure-test").then()
+                .statusCode(200);
+        RestAssured.given().auth().preemptive().basic("stuart", "wrong")
+                .when().get("/secure-test").then()
+                .statusCode(401);
+        Assertions.assertEquals(1, augmentor.getIdentities().size());
+    }
+
+    @Test()
+    public void testEvictedIdentity() {
+        // The cache holds a single identity, the second user evicts the first one
+        RestAssured.given().auth().preemptive().basic("stuart", "test")
+                .when().get("/secure-test").then()
+                .statusCode(200);
+        RestAssured.given().auth().preemptive().basic("jdoe", "p4ssw0rd")
+                .when().get("/secure-test").then()
+                .statusCode(403);
+        RestAssured.given().auth().preemptive().basic("stuart", "test")
+                .when().get("/secure-test").then()
+                .statusCode(200);
+        List<SecurityIdentity> identities = augmentor.getIdentities();
+        Assertions.assertEquals(3, identities.size());
+        Assertions.assertEquals("jdoe", identities.get(1).getPrincipal().getName());
+        Assertions.assertEquals("stuart", identities.get(2).getPrincipal().getName());
+        Assertions.assertNotSame(identities.get(0), identities.get(2));
+    }
+}
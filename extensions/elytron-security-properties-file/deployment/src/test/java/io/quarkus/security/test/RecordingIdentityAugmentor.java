@@ -0,0 +1,38 @@
+package io.quarkus.security.test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+
+/**
+ * Records the identities it augments, which are the ones returned by the identity providers or by the identity cache
+ */
+@ApplicationScoped
+public class RecordingIdentityAugmentor implements SecurityIdentityAugmentor {
+
+    private final List<SecurityIdentity> identities = new CopyOnWriteArrayList<>();
+
+    @Override
+    public int priority() {
+        return 0;
+    }
+
+    @Override
+    public CompletionStage<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+        if (!identity.isAnonymous()) {
+            identities.add(identity);
+        }
+        return CompletableFuture.completedFuture(identity);
+    }
+
+    public List<SecurityIdentity> getIdentities() {
+        return identities;
+    }
+}
@@ -44,6 +44,12 @@ public class MPRealmConfig {
     @ConfigItem(defaultValueDocumentation = "none")
     public Map<String, String> roles;
 
+    /**
+     * The verified identity cache config
+     */
+    @ConfigItem
+    public IdentityCacheConfig cache;
+
     public String getRealmName() {
         return realmName;
     }
@@ -83,6 +89,7 @@ public class MPRealmConfig {
                 ", enabled=" + enabled +
                 ", users=" + users +
                 ", roles=" + roles +
+                ", cache=" + cache +
                 '}';
     }
 }
@@ -50,8 +50,14 @@ public class PropertiesRealmConfig {
     @ConfigItem(defaultValue = "roles.properties")
     public String roles;
 
+    /**
+     * The verified identity cache config
+     */
+    @ConfigItem
+    public IdentityCacheConfig cache;
+
     public String help() {
-        return "{enabled,users,roles,realm-name,plain-text}";
+        return "{enabled,users,roles,realm-name,plain-text,cache}";
     }
 
     @Override
@@ -62,6 +68,7 @@ public class PropertiesRealmConfig {
                 ", users='" + users + '\'' +
                 ", roles='" + roles + '\'' +
                 ", plainText=" + plainText +
+                ", cache=" + cache +
                 '}';
     }
 }
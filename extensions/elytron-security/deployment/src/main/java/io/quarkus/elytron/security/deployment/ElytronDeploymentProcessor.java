@@ -19,6 +19,7 @@ import io.quarkus.elytron.security.runtime.ElytronRecorder;
 import io.quarkus.elytron.security.runtime.ElytronSecurityDomainManager;
 import io.quarkus.elytron.security.runtime.ElytronTokenIdentityProvider;
 import io.quarkus.elytron.security.runtime.ElytronTrustedIdentityProvider;
+import io.quarkus.elytron.security.runtime.IdentityCacheConfig;
 import io.quarkus.runtime.RuntimeValue;
 
 /**
@@ -100,9 +101,24 @@ class ElytronDeploymentProcessor {
 
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
-    void identityManager(ElytronRecorder recorder, SecurityDomainBuildItem securityDomain, BeanContainerBuildItem bc) {
+    void identityManager(ElytronRecorder recorder, SecurityDomainBuildItem securityDomain, BeanContainerBuildItem bc,
+            List<SecurityRealmBuildItem> realms) {
         if (securityDomain != null) {
             recorder.setDomainForIdentityProvider(bc.getValue(), securityDomain.getSecurityDomain());
+            // Passwords are verified against the default realm, its cache config applies to the security domain
+            SecurityRealmBuildItem defaultRealm = realms.get(0);
+            for (int n = 1; n < realms.size(); n++) {
+                IdentityCacheConfig ignored = realms.get(n).getCacheConfig();
+                if (ignored != null && ignored.enabled) {
+                    log.warnf("The identity cache of the realm %s is ignored, only the cache of the default realm %s applies",
+                            realms.get(n).getName(), defaultRealm.getName());
+                }
+            }
+            IdentityCacheConfig cacheConfig = defaultRealm.getCacheConfig();
+            if (cacheConfig != null && cacheConfig.enabled) {
+                log.debugf("Caching the identities verified by the realm %s: %s", defaultRealm.getName(), cacheConfig);
+                recorder.enableIdentityCache(bc.getValue(), cacheConfig.maxSize, cacheConfig.timeToLive.toMillis());
+            }
         }
     }
 
@@ -3,6 +3,7 @@ package io.quarkus.elytron.security.deployment;
 import org.wildfly.security.auth.server.SecurityRealm;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.elytron.security.runtime.IdentityCacheConfig;
 import io.quarkus.runtime.RuntimeValue;
 
 /**
@@ -13,11 +14,18 @@ public final class SecurityRealmBuildItem extends MultiBuildItem {
     private final RuntimeValue<SecurityRealm> realm;
     private final String name;
     private final Runnable runtimeLoadTask;
+    private final IdentityCacheConfig cacheConfig;
 
     public SecurityRealmBuildItem(RuntimeValue<SecurityRealm> realm, String name, Runnable runtimeLoadTask) {
+        this(realm, name, runtimeLoadTask, null);
+    }
+
+    public SecurityRealmBuildItem(RuntimeValue<SecurityRealm> realm, String name, Runnable runtimeLoadTask,
+            IdentityCacheConfig cacheConfig) {
         this.realm = realm;
         this.name = name;
         this.runtimeLoadTask = runtimeLoadTask;
+        this.cacheConfig = cacheConfig;
     }
 
     public RuntimeValue<SecurityRealm> getRealm() {
@@ -31,4 +39,11 @@ public final class SecurityRealmBuildItem extends MultiBuildItem {
     public Runnable getRuntimeLoadTask() {
         return runtimeLoadTask;
     }
+
+    /**
+     * @return the configuration of the cache of the identities verified by the realm, may be {@code null}
+     */
+    public IdentityCacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
 }
@@ -2,6 +2,7 @@ package io.quarkus.elytron.security.runtime;
 
 import java.security.Permission;
 import java.security.Security;
+import java.time.Duration;
 
 import javax.enterprise.inject.spi.CDI;
 
@@ -19,6 +20,7 @@ import org.wildfly.security.permission.PermissionVerifier;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.security.runtime.IdentityProviderManagerCreator;
 
 /**
  * The runtime security recorder class that provides methods for creating RuntimeValues for the deployment security objects.
@@ -35,6 +37,17 @@ public class ElytronRecorder {
         bc.instance(ElytronSecurityDomainManager.class).setDomain(domain.getValue());
     }
 
+    /**
+     * Cache the identities verified by the security domain.
+     *
+     * @param bc - the bean container
+     * @param maxSize - the maximum number of cached identities
+     * @param timeToLive - how long an identity is cached, in milliseconds
+     */
+    public void enableIdentityCache(BeanContainer bc, int maxSize, long timeToLive) {
+        bc.instance(IdentityProviderManagerCreator.class).enableIdentityCache(maxSize, Duration.ofMillis(timeToLive));
+    }
+
     /**
      * Create a {@linkplain SecurityDomain.Builder} for the given default {@linkplain SecurityRealm}.
      *
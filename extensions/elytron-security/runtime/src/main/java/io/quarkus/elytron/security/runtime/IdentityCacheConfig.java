@@ -0,0 +1,42 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of the cache of the identities verified by a realm. Only the cache of the default realm of the security
+ * domain is used, as it is the realm the username/password requests are verified against.
+ */
+@ConfigGroup
+public class IdentityCacheConfig {
+
+    /**
+     * If the identities verified by this realm are cached. A cached identity is returned without verifying the password
+     * again, which avoids running an expensive password hash for every request of the same caller.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached identities.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * How long a verified identity is cached. A changed or removed password is still accepted for at most this duration.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration timeToLive;
+
+    @Override
+    public String toString() {
+        return "IdentityCacheConfig{" +
+                "enabled=" + enabled +
+                ", maxSize=" + maxSize +
+                ", timeToLive=" + timeToLive +
+                '}';
+    }
+}
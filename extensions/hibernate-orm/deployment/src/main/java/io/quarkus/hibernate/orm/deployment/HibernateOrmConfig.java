@@ -227,8 +227,17 @@ public class HibernateOrmConfig {
         @ConfigItem
         public Optional<Integer> statementBatchSize;
 
+        /**
+         * Whether inserts and updates are ordered by entity type before being sent to the database.
+         * <p>
+         * This allows statements for entities of different types to be batched when they are flushed together.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean orderStatements;
+
         public boolean isAnyPropertySet() {
-            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent();
+            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent()
+                    || orderStatements;
         }
     }
 
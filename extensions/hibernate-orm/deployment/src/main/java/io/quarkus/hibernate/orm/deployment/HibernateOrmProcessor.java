@@ -5,9 +5,13 @@ import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +22,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javax.enterprise.inject.Produces;
@@ -25,6 +30,7 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceUnit;
 import javax.persistence.spi.PersistenceUnitTransactionType;
 
+import org.hibernate.Version;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.DerbyTenSevenDialect;
@@ -49,6 +55,7 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
 import io.quarkus.arc.deployment.ResourceAnnotationBuildItem;
+import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -292,9 +299,11 @@ public final class HibernateOrmProcessor {
     public HibernateEnhancersRegisteredBuildItem enhancerDomainObjects(JpaEntitiesBuildItem domainObjects,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem) {
         // Modify the bytecode of all entities to enable lazy-loading, dirty checking, etc..
-        enhanceEntities(domainObjects, transformers, additionalJpaModelBuildItems, additionalClasses);
+        enhanceEntities(domainObjects, transformers, additionalJpaModelBuildItems, additionalClasses,
+                applicationArchivesBuildItem);
         // this allows others to register their enhancers after Hibernate, so they run before ours
         return new HibernateEnhancersRegisteredBuildItem();
     }
@@ -324,12 +333,21 @@ public final class HibernateOrmProcessor {
     public void startPersistenceUnits(HibernateOrmRecorder recorder, BeanContainerBuildItem beanContainer,
             Optional<DataSourceInitializedBuildItem> dataSourceInitialized,
             JpaEntitiesBuildItem jpaEntities, List<NonJpaModelBuildItem> nonJpaModels,
-            List<HibernateOrmIntegrationRuntimeConfiguredBuildItem> integrationsRuntimeConfigured) throws Exception {
+            List<HibernateOrmIntegrationRuntimeConfiguredBuildItem> integrationsRuntimeConfigured,
+            List<HqlQueryBuildItem> hqlQueries) throws Exception {
         if (!hasEntities(jpaEntities, nonJpaModels)) {
             return;
         }
 
         recorder.startAllPersistenceUnits(beanContainer.getValue());
+
+        if (!hqlQueries.isEmpty()) {
+            Set<String> queries = new TreeSet<>();
+            for (HqlQueryBuildItem hqlQuery : hqlQueries) {
+                queries.add(hqlQuery.getQuery());
+            }
+            recorder.compileQueries(beanContainer.getValue(), queries);
+        }
     }
 
     private Optional<String> getSqlLoadScript(LaunchMode launchMode) {
@@ -438,6 +456,11 @@ public final class HibernateOrmProcessor {
                         fetchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
                                 fetchSize.toString()));
 
+                if (hibernateConfig.jdbc.orderStatements) {
+                    desc.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+                    desc.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+                }
+
                 // Logging
                 if (hibernateConfig.log.sql) {
                     desc.getProperties().setProperty(AvailableSettings.SHOW_SQL, "true");
@@ -530,10 +553,12 @@ public final class HibernateOrmProcessor {
     private void enhanceEntities(final JpaEntitiesBuildItem domainObjects,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem) {
         HibernateEntityEnhancer hibernateEntityEnhancer = new HibernateEntityEnhancer();
+        String cacheKey = enhancementCacheKey(domainObjects.getAllModelClassNames(), applicationArchivesBuildItem);
         for (String i : domainObjects.getAllModelClassNames()) {
-            transformers.produce(new BytecodeTransformerBuildItem(i, hibernateEntityEnhancer));
+            transformers.produce(new BytecodeTransformerBuildItem(i, hibernateEntityEnhancer, cacheKey));
         }
         for (AdditionalJpaModelBuildItem additionalJpaModel : additionalJpaModelBuildItems) {
             String className = additionalJpaModel.getClassName();
@@ -547,6 +572,34 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    /**
+     * The enhancement of an entity depends on the other entities of the model, e.g. for bidirectional associations, so
+     * an enhanced entity can only be reused as long as the Hibernate version and the whole model are unchanged.
+     *
+     * @return the key, or {@code null} if the model could not be read and nothing should be cached
+     */
+    private static String enhancementCacheKey(Set<String> modelClassNames,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String className : new TreeSet<>(modelClassNames)) {
+                ApplicationArchive archive = applicationArchivesBuildItem.containingArchive(className);
+                if (archive == null) {
+                    return null;
+                }
+                Path path = archive.getChildPath(className.replace('.', '/') + ".class");
+                if (path == null) {
+                    return null;
+                }
+                digest.update(className.getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(path));
+            }
+            return Version.getVersionString() + ":" + new BigInteger(1, digest.digest()).toString(16);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
     private static List<ParsedPersistenceXmlDescriptor> loadOriginalXMLParsedDescriptors() {
         // Enforce the persistence.xml configuration to be interpreted literally without
         // allowing runtime overrides;
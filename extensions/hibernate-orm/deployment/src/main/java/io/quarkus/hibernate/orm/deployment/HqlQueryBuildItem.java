@@ -0,0 +1,23 @@
+package io.quarkus.hibernate.orm.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A HQL query known at build time, e.g. generated for a repository method.
+ * <p>
+ * These queries are compiled into the query plan cache of the default persistence unit when it starts, so that an
+ * invalid query makes the application fail to start and the first execution of a valid one doesn't need to parse it.
+ * The query must be exactly the string that is passed to {@code EntityManager.createQuery()} at runtime.
+ */
+public final class HqlQueryBuildItem extends MultiBuildItem {
+
+    private final String query;
+
+    public HqlQueryBuildItem(String query) {
+        this.query = query;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+}
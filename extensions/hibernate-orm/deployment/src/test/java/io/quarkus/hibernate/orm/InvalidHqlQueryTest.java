@@ -0,0 +1,61 @@
+package io.quarkus.hibernate.orm;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.Consumer;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.hibernate.orm.deployment.HqlQueryBuildItem;
+import io.quarkus.hibernate.orm.enhancer.Address;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidHqlQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Address.class)
+                    .addAsResource("application.properties"))
+            .addBuildChainCustomizer(buildCustomizer())
+            .assertException(t -> {
+                for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+                    if (cause instanceof IllegalStateException) {
+                        assertTrue(cause.getMessage().contains("FROM Address a WHERE a.unknownField = ?1"),
+                                cause.getMessage());
+                        return;
+                    }
+                }
+                fail("The startup should have failed because of the invalid query", t);
+            });
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new HqlQueryBuildItem("FROM Address a WHERE a.street = ?1"));
+                        context.produce(new HqlQueryBuildItem("FROM Address a WHERE a.unknownField = ?1"));
+                    }
+                }).produces(HqlQueryBuildItem.class).build();
+            }
+        };
+    }
+
+    @Test
+    public void testInvalidQuery() {
+        // should not be called, the application should fail to start
+        fail();
+    }
+}
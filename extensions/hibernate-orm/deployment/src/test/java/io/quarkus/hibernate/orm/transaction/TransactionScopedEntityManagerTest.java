@@ -0,0 +1,72 @@
+package io.quarkus.hibernate.orm.transaction;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.Session;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.enhancer.Address;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionScopedEntityManagerTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Address.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    TransactionManager transactionManager;
+
+    @Test
+    public void testEntityManagerOfTheTransaction() throws Exception {
+        transactionManager.begin();
+        Session first;
+        try {
+            first = entityManager.unwrap(Session.class);
+            Assertions.assertSame(first, entityManager.unwrap(Session.class));
+        } finally {
+            transactionManager.commit();
+        }
+
+        // the entity manager of a completed transaction is not reused
+        transactionManager.begin();
+        try {
+            Session second = entityManager.unwrap(Session.class);
+            Assertions.assertNotSame(first, second);
+            Assertions.assertSame(second, entityManager.unwrap(Session.class));
+        } finally {
+            transactionManager.rollback();
+        }
+    }
+
+    @Test
+    public void testEntityManagerOfASuspendedTransaction() throws Exception {
+        transactionManager.begin();
+        try {
+            Session outer = entityManager.unwrap(Session.class);
+            Transaction suspended = transactionManager.suspend();
+            transactionManager.begin();
+            try {
+                Assertions.assertNotSame(outer, entityManager.unwrap(Session.class));
+            } finally {
+                transactionManager.rollback();
+                transactionManager.resume(suspended);
+            }
+            Assertions.assertSame(outer, entityManager.unwrap(Session.class));
+        } finally {
+            transactionManager.rollback();
+        }
+    }
+}
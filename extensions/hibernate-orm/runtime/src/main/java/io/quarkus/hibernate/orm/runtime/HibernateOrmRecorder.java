@@ -3,6 +3,7 @@ package io.quarkus.hibernate.orm.runtime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.boot.archive.scan.spi.Scanner;
 import org.hibernate.integrator.spi.Integrator;
@@ -76,4 +77,8 @@ public class HibernateOrmRecorder {
     public void startAllPersistenceUnits(BeanContainer beanContainer) {
         beanContainer.instance(JPAConfig.class).startAll();
     }
+
+    public void compileQueries(BeanContainer beanContainer, Set<String> queries) {
+        beanContainer.instance(JPAConfig.class).compileQueries(queries);
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.hibernate.orm.runtime;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -12,6 +14,8 @@ import javax.inject.Singleton;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.jboss.logging.Logger;
 
 @Singleton
@@ -58,6 +62,33 @@ public class JPAConfig {
         }
     }
 
+    /**
+     * Compiles the given HQL queries into the query plan cache of the default persistence unit.
+     *
+     * @throws IllegalStateException if some of the queries are invalid
+     */
+    void compileQueries(Collection<String> queries) {
+        if (persistenceUnits.size() != 1) {
+            // the queries can't be attributed to a persistence unit
+            return;
+        }
+        SessionFactoryImplementor sessionFactory = getEntityManagerFactory(null).unwrap(SessionFactoryImplementor.class);
+        QueryPlanCache queryPlanCache = sessionFactory.getQueryPlanCache();
+        StringBuilder errors = new StringBuilder();
+        for (String query : queries) {
+            try {
+                // the key of a plan includes the enabled filters, there are none by default
+                queryPlanCache.getHQLQueryPlan(query, false, Collections.emptyMap());
+            } catch (RuntimeException e) {
+                errors.append(System.lineSeparator()).append("\t- ").append(query).append(": ").append(e.getMessage());
+            }
+        }
+        if (errors.length() > 0) {
+            throw new IllegalStateException("Unable to compile the following queries:" + errors);
+        }
+        LOGGER.debugf("Compiled %d queries", queries.size());
+    }
+
     void initDefaultPersistenceUnit() {
         if (persistenceUnits.size() == 1) {
             defaultPersistenceUnitName.set(persistenceUnits.keySet().iterator().next());
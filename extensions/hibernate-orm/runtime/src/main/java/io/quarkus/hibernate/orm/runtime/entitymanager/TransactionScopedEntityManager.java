@@ -21,6 +21,8 @@ import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Metamodel;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 
@@ -36,6 +38,12 @@ public class TransactionScopedEntityManager implements EntityManager {
     private final String unitName;
     private static final Object transactionKey = new Object();
     private final Instance<RequestScopedEntityManagerHolder> requestScopedEms;
+    /**
+     * The binding of the last transaction this thread used. It is only valid for as long as the same transaction is
+     * associated with the thread and has not completed, a completed binding no longer references the transaction or
+     * its entity manager.
+     */
+    private final ThreadLocal<TransactionBinding> currentBinding = new ThreadLocal<>();
 
     public TransactionScopedEntityManager(TransactionManager transactionManager,
             TransactionSynchronizationRegistry tsr,
@@ -49,27 +57,29 @@ public class TransactionScopedEntityManager implements EntityManager {
     }
 
     EntityManagerResult getEntityManager() {
+        Transaction transaction = getTransaction(transactionManager);
+        if (transaction != null) {
+            // fast path: the entity manager of the current transaction has already been resolved by this thread
+            TransactionBinding binding = currentBinding.get();
+            if (binding != null && binding.transaction == transaction) {
+                EntityManagerResult result = binding.result;
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
         if (isInTransaction()) {
-            EntityManager em = (EntityManager) tsr.getResource(transactionKey);
-            if (em != null) {
-                return new EntityManagerResult(em, false, true);
+            // the transaction may have been resolved by another thread, or before it was suspended
+            TransactionBinding binding = (TransactionBinding) tsr.getResource(transactionKey);
+            if (binding == null) {
+                EntityManager newEm = emf.createEntityManager();
+                newEm.joinTransaction();
+                binding = new TransactionBinding(transaction, new EntityManagerResult(newEm, false, true));
+                tsr.putResource(transactionKey, binding);
+                tsr.registerInterposedSynchronization(binding);
             }
-            EntityManager newEm = emf.createEntityManager();
-            newEm.joinTransaction();
-            tsr.putResource(transactionKey, newEm);
-            tsr.registerInterposedSynchronization(new Synchronization() {
-                @Override
-                public void beforeCompletion() {
-                    newEm.flush();
-                    newEm.close();
-                }
-
-                @Override
-                public void afterCompletion(int i) {
-                    newEm.close();
-                }
-            });
-            return new EntityManagerResult(newEm, false, true);
+            currentBinding.set(binding);
+            return binding.result;
         } else {
             //this will throw an exception if the request scope is not active
             //this is expected as either the request scope or an active transaction
@@ -79,6 +89,14 @@ public class TransactionScopedEntityManager implements EntityManager {
         }
     }
 
+    private static Transaction getTransaction(TransactionManager transactionManager) {
+        try {
+            return transactionManager.getTransaction();
+        } catch (SystemException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void checkBlocking() {
         if (!BlockingOperationControl.isBlockingAllowed()) {
             throw new IllegalStateException(
@@ -517,6 +535,43 @@ public class TransactionScopedEntityManager implements EntityManager {
         }
     }
 
+    /**
+     * Binds an entity manager to a transaction, as a resource of the transaction, and unbinds it when the transaction
+     * completes so that the entity manager is not reused even if the transaction is still associated with the thread.
+     */
+    /**
+     * Binds an entity manager to a transaction, and unbinds it when the transaction completes. The completion may
+     * happen on another thread, e.g. on a transaction timeout, so the binding is cleared rather than removed from the
+     * thread locals.
+     */
+    private static final class TransactionBinding implements Synchronization {
+
+        volatile Transaction transaction;
+        volatile EntityManagerResult result;
+
+        TransactionBinding(Transaction transaction, EntityManagerResult result) {
+            this.transaction = transaction;
+            this.result = result;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            EntityManager em = result.em;
+            em.flush();
+            em.close();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            EntityManagerResult result = this.result;
+            this.result = null;
+            this.transaction = null;
+            if (result != null) {
+                result.em.close();
+            }
+        }
+    }
+
     static class EntityManagerResult implements AutoCloseable {
 
         final EntityManager em;
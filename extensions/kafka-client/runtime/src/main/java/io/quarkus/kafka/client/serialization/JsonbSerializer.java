@@ -1,7 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -10,9 +9,15 @@ import org.apache.kafka.common.serialization.Serializer;
 
 /**
  * A {@link Serializer} that serializes to JSON using JSON-B.
+ * <p>
+ * The data is written to a buffer reused by the serializations of the thread, and copied once into the record bytes.
  */
 public class JsonbSerializer<T> implements Serializer<T> {
 
+    // a buffer which grew larger than this is not kept, so that a large record does not retain its memory
+    static final int MAX_REUSED_BUFFER_SIZE = 64 * 1024;
+    static final ThreadLocal<ByteArrayOutputStream> BUFFERS = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+
     private final Jsonb jsonb;
     private final boolean jsonbNeedsClosing;
 
@@ -35,11 +40,15 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream output = BUFFERS.get();
+        output.reset();
+        try {
             jsonb.toJson(data, output);
             return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        } finally {
+            if (output.size() > MAX_REUSED_BUFFER_SIZE) {
+                BUFFERS.remove();
+            }
         }
     }
 
@@ -1,26 +1,29 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * The data is parsed directly from the record bytes by a reader bound to the type, so the deserializer of the type is only
+ * looked up once.
+ */
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final Class<T> type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = type;
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(type);
     }
 
     @Override
@@ -33,8 +36,8 @@ public class ObjectMapperDeserializer<T> implements Deserializer<T> {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
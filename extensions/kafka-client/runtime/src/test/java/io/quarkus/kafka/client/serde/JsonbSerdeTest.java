@@ -2,6 +2,8 @@ package io.quarkus.kafka.client.serde;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 
@@ -41,6 +43,26 @@ public class JsonbSerdeTest {
         }
     }
 
+    @Test
+    public void shouldSerializeALargeThenASmallEntity() {
+        MyEntity large = new MyEntity();
+        large.id = 1L;
+        large.name = String.join("", Collections.nCopies(1000, "Bob"));
+        MyEntity small = new MyEntity();
+        small.id = 2L;
+        small.name = "Bob";
+
+        try (JsonbSerde<MyEntity> serde = new JsonbSerde<>(MyEntity.class)) {
+            byte[] serializedLarge = serde.serializer().serialize("my-topic", large);
+            byte[] serializedSmall = serde.serializer().serialize("my-topic", small);
+
+            assertThat(serde.deserializer().deserialize("my-topic", serializedLarge).name).isEqualTo(large.name);
+            MyEntity deserialized = serde.deserializer().deserialize("my-topic", serializedSmall);
+            assertThat(deserialized.id).isEqualTo(2L);
+            assertThat(deserialized.name).isEqualTo("Bob");
+        }
+    }
+
     public static class MyEntity {
         public long id;
         public String name;
@@ -0,0 +1,57 @@
+package io.quarkus.kafka.client.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonbSerializerTest {
+
+    @Test
+    public void shouldReuseTheBufferOfTheThread() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            JsonbSerializer<MyEntity> serializer = new JsonbSerializer<>(jsonb);
+            byte[] first = serializer.serialize("my-topic", entity(1L, "Bob"));
+            ByteArrayOutputStream buffer = JsonbSerializer.BUFFERS.get();
+            byte[] second = serializer.serialize("my-topic", entity(2L, "Alice"));
+
+            assertThat(JsonbSerializer.BUFFERS.get()).isSameAs(buffer);
+            // the records do not share the buffer
+            assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"Bob\"");
+            assertThat(new String(second, StandardCharsets.UTF_8)).contains("\"Alice\"");
+        }
+    }
+
+    @Test
+    public void shouldReleaseTheBufferOfALargeRecord() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            JsonbSerializer<MyEntity> serializer = new JsonbSerializer<>(jsonb);
+            serializer.serialize("my-topic", entity(1L, "Bob"));
+            ByteArrayOutputStream buffer = JsonbSerializer.BUFFERS.get();
+
+            String name = String.join("", Collections.nCopies(JsonbSerializer.MAX_REUSED_BUFFER_SIZE, "B"));
+            byte[] large = serializer.serialize("my-topic", entity(2L, name));
+            assertThat(large.length).isGreaterThan(JsonbSerializer.MAX_REUSED_BUFFER_SIZE);
+            assertThat(JsonbSerializer.BUFFERS.get()).isNotSameAs(buffer);
+            assertThat(JsonbSerializer.BUFFERS.get().size()).isEqualTo(0);
+        }
+    }
+
+    private static MyEntity entity(long id, String name) {
+        MyEntity entity = new MyEntity();
+        entity.id = id;
+        entity.name = name;
+        return entity;
+    }
+
+    public static class MyEntity {
+        public long id;
+        public String name;
+    }
+}
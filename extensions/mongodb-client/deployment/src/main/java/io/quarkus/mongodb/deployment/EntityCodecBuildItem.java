@@ -0,0 +1,21 @@
+package io.quarkus.mongodb.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public final class EntityCodecBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> codecClassNames;
+
+    public EntityCodecBuildItem(Map<String, String> codecClassNames) {
+        this.codecClassNames = codecClassNames;
+    }
+
+    /**
+     * @return the names of the generated codec classes, by entity class name
+     */
+    public Map<String, String> getCodecClassNames() {
+        return codecClassNames;
+    }
+}
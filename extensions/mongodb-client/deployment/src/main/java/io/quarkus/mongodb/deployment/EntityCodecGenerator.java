@@ -0,0 +1,379 @@
+package io.quarkus.mongodb.deployment;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bson.BsonWriter;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.deployment.bean.JavaBeanUtil;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.mongodb.runtime.EntityCodec;
+
+/**
+ * Generates the {@link EntityCodec} of an entity class.
+ * <p>
+ * The generated codec must produce the same documents as the POJO codec of the driver, so it is only generated for the
+ * classes whose mapping is plain: no BSON annotation, properties that are public fields or fields with a public getter and
+ * setter, whose types are handled by the value codecs of the driver. The other classes keep using the POJO codec.
+ */
+final class EntityCodecGenerator {
+
+    static final String CODEC_SUFFIX = "_EntityCodec";
+
+    private static final String ID = "_id";
+    private static final String BSON_ANNOTATIONS_PACKAGE = "org.bson.codecs.pojo.annotations.";
+    private static final DotName DOTNAME_OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName DOTNAME_OBJECT_ID = DotName.createSimple(ObjectId.class.getName());
+
+    private static final MethodDescriptor ENCODE_PROPERTY = MethodDescriptor.ofMethod(EntityCodec.class, "encodeProperty",
+            void.class, BsonWriter.class, EncoderContext.class, int.class, Object.class);
+    private static final MethodDescriptor IS_SET = MethodDescriptor.ofMethod(EntityCodec.class, "isSet", boolean.class,
+            Object.class);
+    private static final MethodDescriptor IS_ENCODING_COLLECTIBLE_DOCUMENT = MethodDescriptor.ofMethod(EncoderContext.class,
+            "isEncodingCollectibleDocument", boolean.class);
+
+    // the types of the properties, with the wrapper types of the primitive ones, whose codecs are the value codecs
+    private static final Map<String, Class<?>> PROPERTY_TYPES = new HashMap<>();
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[] { Boolean.class, Byte.class, Short.class, Integer.class, Long.class,
+                Float.class, Double.class, Character.class, String.class, ObjectId.class, Date.class, BigDecimal.class,
+                Decimal128.class, Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class, UUID.class }) {
+            PROPERTY_TYPES.put(type.getName(), type);
+        }
+        for (Class<?>[] types : new Class<?>[][] { { boolean.class, Boolean.class }, { byte.class, Byte.class },
+                { short.class, Short.class }, { int.class, Integer.class }, { long.class, Long.class },
+                { float.class, Float.class }, { double.class, Double.class }, { char.class, Character.class } }) {
+            PROPERTY_TYPES.put(types[0].getName(), types[1]);
+            PRIMITIVE_TYPES.put(types[0].getName(), types[0]);
+        }
+    }
+
+    private EntityCodecGenerator() {
+    }
+
+    /**
+     * @return the name of the generated codec, or {@code null} if the entity keeps using the POJO codec
+     */
+    static String generate(ClassInfo entity, IndexView index, ClassOutput classOutput) {
+        List<Property> properties = collectProperties(entity, index);
+        if (properties == null) {
+            return null;
+        }
+
+        String entityName = entity.name().toString();
+        String codecName = entityName + CODEC_SUFFIX;
+        try (ClassCreator codec = ClassCreator.builder().classOutput(classOutput)
+                .className(codecName.replace('.', '/'))
+                .superClass(EntityCodec.class).build()) {
+            generateConstructor(codec, entityName, properties);
+
+            MethodCreator newInstance = codec.getMethodCreator("newInstance", Object.class);
+            newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(entityName)));
+
+            MethodCreator encodeProperties = codec.getMethodCreator("encodeProperties", void.class, BsonWriter.class,
+                    Object.class, EncoderContext.class);
+            ResultHandle encodedEntity = encodeProperties.checkCast(encodeProperties.getMethodParam(1), entityName);
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                if (property.name.equals(ID) && property.field.type().name().equals(DOTNAME_OBJECT_ID)) {
+                    generateId(encodeProperties, property, encodedEntity);
+                }
+                ResultHandle value = box(encodeProperties, property, property.read(encodeProperties, encodedEntity));
+                encodeProperties.invokeVirtualMethod(ENCODE_PROPERTY, encodeProperties.getThis(),
+                        encodeProperties.getMethodParam(0), encodeProperties.getMethodParam(2), encodeProperties.load(i),
+                        value);
+            }
+            encodeProperties.returnValue(null);
+
+            MethodCreator setProperties = codec.getMethodCreator("setProperties", void.class, Object.class, Object[].class);
+            ResultHandle decodedEntity = setProperties.checkCast(setProperties.getMethodParam(0), entityName);
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                ResultHandle value = setProperties.readArrayValue(setProperties.getMethodParam(1), i);
+                BytecodeCreator isSet = setProperties.ifNonZero(setProperties.invokeStaticMethod(IS_SET, value))
+                        .trueBranch();
+                if (property.isPrimitive()) {
+                    // null cannot be set, the property keeps its default value
+                    isSet = isSet.ifNull(value).falseBranch();
+                }
+                property.write(isSet, decodedEntity, unbox(isSet, property, value));
+            }
+            setProperties.returnValue(null);
+        }
+        return codecName;
+    }
+
+    private static void generateConstructor(ClassCreator codec, String entityName, List<Property> properties) {
+        MethodCreator constructor = codec.getMethodCreator("<init>", void.class, CodecRegistry.class);
+        ResultHandle names = constructor.newArray(String.class, constructor.load(properties.size()));
+        ResultHandle types = constructor.newArray(Class.class, constructor.load(properties.size()));
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            constructor.writeArrayValue(names, i, constructor.load(property.name));
+            constructor.writeArrayValue(types, i, constructor.loadClass(property.type().getName()));
+        }
+        constructor.invokeSpecialMethod(
+                MethodDescriptor.ofConstructor(EntityCodec.class, CodecRegistry.class, Class.class, String[].class,
+                        Class[].class),
+                constructor.getThis(), constructor.getMethodParam(0), constructor.loadClass(entityName), names, types);
+        constructor.returnValue(null);
+    }
+
+    /**
+     * Sets a new ObjectId as the ID of an entity which has none, like the ObjectId generator of the POJO codec does.
+     */
+    private static void generateId(MethodCreator encodeProperties, Property property, ResultHandle entity) {
+        BytecodeCreator absent = encodeProperties.ifNull(property.read(encodeProperties, entity)).trueBranch();
+        BytecodeCreator generate = absent
+                .ifNonZero(absent.invokeVirtualMethod(IS_ENCODING_COLLECTIBLE_DOCUMENT, encodeProperties.getMethodParam(2)))
+                .trueBranch();
+        property.write(generate, entity, generate.newInstance(MethodDescriptor.ofConstructor(ObjectId.class)));
+    }
+
+    private static ResultHandle box(BytecodeCreator creator, Property property, ResultHandle value) {
+        if (!property.isPrimitive()) {
+            return value;
+        }
+        Class<?> wrapper = property.type();
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, property.primitiveType()),
+                value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, Property property, ResultHandle value) {
+        Class<?> wrapper = property.type();
+        ResultHandle castValue = creator.checkCast(value, wrapper);
+        if (!property.isPrimitive()) {
+            return castValue;
+        }
+        Class<?> primitive = property.primitiveType();
+        return creator.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive.getName() + "Value", primitive),
+                castValue);
+    }
+
+    /**
+     * @return the properties of the entity, the ID first, or {@code null} if the entity keeps using the POJO codec
+     */
+    private static List<Property> collectProperties(ClassInfo entity, IndexView index) {
+        if (Modifier.isAbstract(entity.flags()) || Modifier.isInterface(entity.flags())
+                || entity.nestingType() != ClassInfo.NestingType.TOP_LEVEL || !entity.typeParameters().isEmpty()) {
+            return null;
+        }
+        MethodInfo constructor = entity.method("<init>");
+        if (constructor == null || Modifier.isPrivate(constructor.flags())) {
+            return null;
+        }
+
+        // the hierarchy of the entity, from the entity to the class under Object
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo classInfo = entity;
+        while (classInfo != null) {
+            if (hasBsonAnnotation(classInfo)) {
+                return null;
+            }
+            hierarchy.add(classInfo);
+            DotName superName = classInfo.superName();
+            if (superName == null || superName.equals(DOTNAME_OBJECT)) {
+                break;
+            }
+            classInfo = index.getClassByName(superName);
+            if (classInfo == null) {
+                // the properties of a class which is not indexed are unknown
+                return null;
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            for (FieldInfo field : hierarchy.get(i).fields()) {
+                if (Modifier.isStatic(field.flags())) {
+                    continue;
+                }
+                if (Modifier.isTransient(field.flags()) || !PROPERTY_TYPES.containsKey(field.type().name().toString())
+                        || !fieldNames.add(field.name())) {
+                    return null;
+                }
+                Property property = createProperty(field, hierarchy, entity);
+                if (property == null) {
+                    return null;
+                }
+                if (property.name.equals(ID)) {
+                    if (!properties.isEmpty() && properties.get(0).name.equals(ID)) {
+                        // both an id and an _id field
+                        return null;
+                    }
+                    properties.add(0, property);
+                } else {
+                    properties.add(property);
+                }
+            }
+        }
+
+        // the POJO codec also maps the getters and setters that do not match a field
+        for (ClassInfo current : hierarchy) {
+            for (MethodInfo method : current.methods()) {
+                String propertyName = propertyName(method);
+                if (propertyName != null && !fieldNames.contains(propertyName)) {
+                    return null;
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static Property createProperty(FieldInfo field, List<ClassInfo> hierarchy, ClassInfo entity) {
+        String capitalized = Character.toUpperCase(field.name().charAt(0)) + field.name().substring(1);
+        MethodInfo getter = findMethod(hierarchy, JavaBeanUtil.getGetterName(field.name(), field.type().name().toString()));
+        MethodInfo setter = findMethod(hierarchy, "set" + capitalized, field.type());
+        if (getter != null && (!isAccessible(getter.flags(), getter.declaringClass(), entity)
+                || !getter.returnType().equals(field.type()))) {
+            return null;
+        }
+        if (setter != null && !isAccessible(setter.flags(), setter.declaringClass(), entity)) {
+            return null;
+        }
+        boolean fieldAccessible = isAccessible(field.flags(), field.declaringClass(), entity)
+                && !Modifier.isFinal(field.flags());
+        if (!fieldAccessible && (getter == null || setter == null)) {
+            return null;
+        }
+
+        String name = field.name().equals("id") || field.name().equals(ID) ? ID : field.name();
+        return new Property(name, field, getter, setter);
+    }
+
+    private static MethodInfo findMethod(List<ClassInfo> hierarchy, String name, Type... parameters) {
+        for (ClassInfo classInfo : hierarchy) {
+            MethodInfo method = classInfo.method(name, parameters);
+            if (method != null && !Modifier.isStatic(method.flags())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the name of the property of a getter or a setter, or {@code null} if the method is neither
+     */
+    private static String propertyName(MethodInfo method) {
+        if (Modifier.isStatic(method.flags()) || !Modifier.isPublic(method.flags())) {
+            return null;
+        }
+        String name = method.name();
+        String suffix = null;
+        if (name.startsWith("get") && method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID) {
+            suffix = name.substring(3);
+        } else if (name.startsWith("is") && method.parameters().isEmpty()
+                && method.returnType().kind() != Type.Kind.VOID) {
+            suffix = name.substring(2);
+        } else if (name.startsWith("set") && method.parameters().size() == 1) {
+            suffix = name.substring(3);
+        }
+        if (suffix == null || suffix.isEmpty()) {
+            return null;
+        }
+        return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+    }
+
+    private static boolean hasBsonAnnotation(ClassInfo classInfo) {
+        // the annotations of the class and of its members
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            if (annotation.toString().startsWith(BSON_ANNOTATIONS_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the generated codec, which is in the package of the entity, can access a member.
+     */
+    private static boolean isAccessible(int flags, ClassInfo declaringClass, ClassInfo entity) {
+        if (Modifier.isPrivate(flags)) {
+            return false;
+        }
+        if (packageName(declaringClass).equals(packageName(entity))) {
+            return true;
+        }
+        return Modifier.isPublic(flags) && Modifier.isPublic(declaringClass.flags());
+    }
+
+    private static String packageName(ClassInfo classInfo) {
+        String name = classInfo.name().toString();
+        int index = name.lastIndexOf('.');
+        return index == -1 ? "" : name.substring(0, index);
+    }
+
+    private static final class Property {
+
+        final String name;
+        final FieldInfo field;
+        final MethodInfo getter;
+        final MethodInfo setter;
+
+        Property(String name, FieldInfo field, MethodInfo getter, MethodInfo setter) {
+            this.name = name;
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean isPrimitive() {
+            return field.type().kind() == Type.Kind.PRIMITIVE;
+        }
+
+        Class<?> type() {
+            return PROPERTY_TYPES.get(field.type().name().toString());
+        }
+
+        Class<?> primitiveType() {
+            return PRIMITIVE_TYPES.get(field.type().name().toString());
+        }
+
+        // the POJO codec uses the getter and the setter when there are some
+        ResultHandle read(BytecodeCreator creator, ResultHandle entity) {
+            if (getter != null) {
+                return creator.invokeVirtualMethod(MethodDescriptor.of(getter), entity);
+            }
+            return creator.readInstanceField(FieldDescriptor.of(field), entity);
+        }
+
+        void write(BytecodeCreator creator, ResultHandle entity, ResultHandle value) {
+            if (setter != null) {
+                creator.invokeVirtualMethod(MethodDescriptor.of(setter), entity, value);
+            } else {
+                creator.writeInstanceField(FieldDescriptor.of(field), entity, value);
+            }
+        }
+    }
+}
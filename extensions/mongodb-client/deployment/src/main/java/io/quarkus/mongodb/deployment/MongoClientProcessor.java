@@ -1,7 +1,9 @@
 package io.quarkus.mongodb.deployment;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.bson.codecs.configuration.CodecProvider;
@@ -12,6 +14,7 @@ import com.mongodb.client.MongoClient;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.deployment.GizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -19,9 +22,11 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.mongodb.ReactiveMongoClient;
 import io.quarkus.mongodb.runtime.MongoClientConfig;
 import io.quarkus.mongodb.runtime.MongoClientProducer;
@@ -50,12 +55,34 @@ public class MongoClientProcessor {
                 .collect(Collectors.toList());
     }
 
+    @BuildStep
+    EntityCodecBuildItem generateEntityCodecs(CombinedIndexBuildItem indexBuildItem,
+            List<MongoEntityClassBuildItem> entityClasses,
+            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        ClassOutput classOutput = new GizmoAdaptor(generatedClass, true);
+        Map<String, String> codecs = new HashMap<>();
+        for (MongoEntityClassBuildItem entityClass : entityClasses) {
+            ClassInfo classInfo = indexBuildItem.getIndex().getClassByName(DotName.createSimple(entityClass.getClassName()));
+            if (classInfo == null || codecs.containsKey(entityClass.getClassName())) {
+                continue;
+            }
+            String codecClass = EntityCodecGenerator.generate(classInfo, indexBuildItem.getIndex(), classOutput);
+            if (codecClass != null) {
+                codecs.put(entityClass.getClassName(), codecClass);
+                // loaded by name and created through its constructor by EntityCodecProvider
+                reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, false, codecClass));
+            }
+        }
+        return new EntityCodecBuildItem(codecs);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     MongoClientBuildItem build(BuildProducer<FeatureBuildItem> feature, MongoClientRecorder recorder,
             BeanContainerBuildItem beanContainer, LaunchModeBuildItem launchMode,
             ShutdownContextBuildItem shutdown,
-            MongoClientConfig config, CodecProviderBuildItem codecs,
+            MongoClientConfig config, CodecProviderBuildItem codecs, EntityCodecBuildItem entityCodecs,
             BuildProducer<ExtensionSslNativeSupportBuildItem> sslNativeSupport) {
 
         feature.produce(new FeatureBuildItem(FeatureBuildItem.MONGODB_CLIENT));
@@ -64,7 +91,7 @@ public class MongoClientProcessor {
 
         RuntimeValue<MongoClient> client = recorder.configureTheClient(config, beanContainer.getValue(),
                 launchMode.getLaunchMode(), shutdown,
-                codecs.getCodecProviderClassNames());
+                codecs.getCodecProviderClassNames(), entityCodecs.getCodecClassNames());
         RuntimeValue<ReactiveMongoClient> reactiveClient = recorder.configureTheReactiveClient();
         return new MongoClientBuildItem(client, reactiveClient);
     }
@@ -0,0 +1,19 @@
+package io.quarkus.mongodb.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A class stored as a document, for which a codec is generated when the POJO codec can be replaced.
+ */
+public final class MongoEntityClassBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public MongoEntityClassBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.mongodb.deployment.codec;
+
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.types.ObjectId;
+
+/**
+ * The POJO codec renames its property, so no codec is generated for it.
+ */
+public class AnnotatedPerson {
+
+    public ObjectId id;
+    @BsonProperty("full_name")
+    public String name;
+}
@@ -0,0 +1,7 @@
+package io.quarkus.mongodb.deployment.codec;
+
+public class Employee extends Person {
+
+    public String company;
+    public long salary;
+}
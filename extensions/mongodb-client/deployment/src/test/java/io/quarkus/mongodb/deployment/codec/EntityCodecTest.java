@@ -0,0 +1,219 @@
+package io.quarkus.mongodb.deployment.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.types.ObjectId;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.mongodb.client.MongoClient;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.mongodb.deployment.MongoEntityClassBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Compares the codecs generated for the entities with the POJO codec of the driver, which they replace.
+ */
+public class EntityCodecTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, Employee.class, AnnotatedPerson.class)
+                    .addAsResource(new StringAsset("quarkus.mongodb.connection-string=mongodb://localhost:27017\n"),
+                            "application.properties"))
+            .addBuildChainCustomizer(buildCustomizer());
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new MongoEntityClassBuildItem(Person.class.getName()));
+                        context.produce(new MongoEntityClassBuildItem(Employee.class.getName()));
+                        context.produce(new MongoEntityClassBuildItem(AnnotatedPerson.class.getName()));
+                    }
+                }).produces(MongoEntityClassBuildItem.class).build();
+            }
+        };
+    }
+
+    private final CodecRegistry pojoRegistry = CodecRegistries.fromRegistries(
+            com.mongodb.MongoClient.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(PojoCodecProvider.builder()
+                    .automatic(true)
+                    .conventions(Conventions.DEFAULT_CONVENTIONS)
+                    .build()));
+
+    @Inject
+    MongoClient client;
+
+    @Test
+    public void testGeneratedCodecs() {
+        assertEquals(Person.class.getName() + "_EntityCodec", registry().get(Person.class).getClass().getName());
+        assertEquals(Employee.class.getName() + "_EntityCodec", registry().get(Employee.class).getClass().getName());
+        // a BSON annotation changes the mapping, the POJO codec is kept
+        assertNotEquals(AnnotatedPerson.class.getName() + "_EntityCodec",
+                registry().get(AnnotatedPerson.class).getClass().getName());
+    }
+
+    @Test
+    public void testEncodeLikeThePojoCodec() {
+        Person person = createPerson();
+
+        BsonDocument document = encode(registry().get(Person.class), person, EncoderContext.builder().build());
+        assertEquals(encode(pojoRegistry.get(Person.class), person, EncoderContext.builder().build()), document);
+        assertEquals("_id", document.getFirstKey());
+        assertEquals(19, document.getInt32("age").getValue());
+        assertEquals(new BsonString("L"), document.get("initial"));
+        assertEquals("luke@rebels.org", document.getString("email").getValue());
+
+        // null values are skipped, primitive ones are always written
+        Person empty = new Person();
+        document = encode(registry().get(Person.class), empty, EncoderContext.builder().build());
+        assertEquals(encode(pojoRegistry.get(Person.class), empty, EncoderContext.builder().build()), document);
+        assertFalse(document.containsKey("_id"));
+        assertFalse(document.containsKey("name"));
+        assertEquals(0, document.getInt32("age").getValue());
+    }
+
+    @Test
+    public void testEncodeInheritedFields() {
+        Employee employee = new Employee();
+        employee.id = new ObjectId();
+        employee.name = "Wedge";
+        employee.age = 21;
+        employee.initial = 'W';
+        employee.setEmail("wedge@rebels.org");
+        employee.company = "Rogue Squadron";
+        employee.salary = 1000L;
+
+        BsonDocument document = encode(registry().get(Employee.class), employee, EncoderContext.builder().build());
+        assertEquals(encode(pojoRegistry.get(Employee.class), employee, EncoderContext.builder().build()), document);
+        assertEquals("Wedge", document.getString("name").getValue());
+        assertEquals("Rogue Squadron", document.getString("company").getValue());
+
+        // an employee encoded as a person keeps its own properties
+        assertEquals(document, encode(registry().get(Person.class), employee, EncoderContext.builder().build()));
+
+        Employee decoded = decode(registry().get(Employee.class), document);
+        assertEquals(employee.id, decoded.id);
+        assertEquals("Wedge", decoded.name);
+        assertEquals(21, decoded.age);
+        assertEquals('W', decoded.initial);
+        assertEquals("wedge@rebels.org", decoded.getEmail());
+        assertEquals("Rogue Squadron", decoded.company);
+        assertEquals(1000L, decoded.salary);
+    }
+
+    @Test
+    public void testDecodeWhatThePojoCodecEncodes() {
+        Person person = createPerson();
+        BsonDocument document = encode(pojoRegistry.get(Person.class), person, EncoderContext.builder().build());
+        document.append("unknown", new BsonString("skipped"));
+
+        assertPerson(person, decode(registry().get(Person.class), document));
+        // and the round trip
+        assertPerson(person, decode(registry().get(Person.class),
+                encode(registry().get(Person.class), person, EncoderContext.builder().build())));
+    }
+
+    @Test
+    public void testGenerateTheIdOfANewEntity() {
+        EncoderContext collectible = EncoderContext.builder().isEncodingCollectibleDocument(true).build();
+
+        Person person = new Person();
+        BsonDocument document = encode(registry().get(Person.class), person, collectible);
+        assertNotNull(person.id);
+        assertEquals(person.id, document.getObjectId("_id").getValue());
+
+        // like the POJO codec
+        Person pojoPerson = new Person();
+        BsonDocument pojoDocument = encode(pojoRegistry.get(Person.class), pojoPerson, collectible);
+        assertNotNull(pojoPerson.id);
+        assertEquals(pojoPerson.id, pojoDocument.getObjectId("_id").getValue());
+
+        // the ID is only generated for the documents being stored
+        Person embedded = new Person();
+        document = encode(registry().get(Person.class), embedded, EncoderContext.builder().build());
+        assertNull(embedded.id);
+        assertFalse(document.containsKey("_id"));
+    }
+
+    @Test
+    public void testFallBackToThePojoCodec() {
+        AnnotatedPerson person = new AnnotatedPerson();
+        person.id = new ObjectId();
+        person.name = "Han";
+
+        BsonDocument document = encode(registry().get(AnnotatedPerson.class), person, EncoderContext.builder().build());
+        assertEquals(encode(pojoRegistry.get(AnnotatedPerson.class), person, EncoderContext.builder().build()), document);
+        assertTrue(document.containsKey("full_name"));
+
+        AnnotatedPerson decoded = decode(registry().get(AnnotatedPerson.class), document);
+        assertEquals(person.id, decoded.id);
+        assertEquals("Han", decoded.name);
+    }
+
+    private CodecRegistry registry() {
+        return client.getDatabase("test").getCodecRegistry();
+    }
+
+    private static Person createPerson() {
+        Person person = new Person();
+        person.id = new ObjectId();
+        person.name = "Luke";
+        person.age = 19;
+        person.initial = 'L';
+        person.setEmail("luke@rebels.org");
+        return person;
+    }
+
+    private static void assertPerson(Person expected, Person actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.age, actual.age);
+        assertEquals(expected.initial, actual.initial);
+        assertEquals(expected.getEmail(), actual.getEmail());
+    }
+
+    private static <T> BsonDocument encode(Codec<T> codec, T value, EncoderContext encoderContext) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, encoderContext);
+        return document;
+    }
+
+    private static <T> T decode(Codec<T> codec, BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
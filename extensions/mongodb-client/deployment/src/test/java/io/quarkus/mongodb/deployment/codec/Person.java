@@ -0,0 +1,20 @@
+package io.quarkus.mongodb.deployment.codec;
+
+import org.bson.types.ObjectId;
+
+public class Person {
+
+    public ObjectId id;
+    public String name;
+    public int age;
+    public char initial;
+    private String email;
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
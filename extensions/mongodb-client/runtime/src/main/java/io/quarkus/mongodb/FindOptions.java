@@ -16,6 +16,7 @@ public class FindOptions {
     private Bson filter;
     private int limit;
     private int skip;
+    private int batchSize;
     private long maxTime;
     private TimeUnit maxTimeUnit;
     private Bson projection;
@@ -67,6 +68,17 @@ public class FindOptions {
         return this;
     }
 
+    /**
+     * Sets the number of documents to return per batch.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public FindOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     /**
      * Sets the maximum execution time on the server for this operation.
      *
@@ -261,6 +273,9 @@ public class FindOptions {
         if (skip > 0) {
             publisher = publisher.skip(skip);
         }
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
         if (maxTime > 0) {
             publisher = publisher.maxTime(maxTime, maxTimeUnit);
         }
@@ -0,0 +1,122 @@
+package io.quarkus.mongodb.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Base class of the codecs generated at build time for the entity classes, which are used instead of the reflective POJO
+ * codec of the driver.
+ * <p>
+ * A generated codec reads and writes the properties of its entity directly, this class reads and writes the document and
+ * delegates each value to the codec of its type, the same codec as the POJO codec would use.
+ *
+ * @param <T> the type of the entity
+ */
+public abstract class EntityCodec<T> implements Codec<T> {
+
+    private static final Object UNSET = new Object();
+
+    private final CodecRegistry registry;
+    private final Class<T> type;
+    private final String[] names;
+    private final Codec<Object>[] codecs;
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * @param registry the registry of the codecs of the property values
+     * @param type the type of the entity
+     * @param names the names of the properties in the document, the property of the ID being named {@code _id}
+     * @param types the types of the properties, wrapper types being used for the primitive ones
+     */
+    @SuppressWarnings("unchecked")
+    protected EntityCodec(CodecRegistry registry, Class<T> type, String[] names, Class<?>[] types) {
+        this.registry = registry;
+        this.type = type;
+        this.names = names;
+        this.codecs = new Codec[types.length];
+        for (int i = 0; i < types.length; i++) {
+            codecs[i] = (Codec<Object>) registry.get(types[i]);
+            indexes.put(names[i], i);
+        }
+    }
+
+    /**
+     * @return a new entity, created by its no-args constructor
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Writes the properties of the entity by calling {@link #encodeProperty} for each of them, the ID first.
+     */
+    protected abstract void encodeProperties(BsonWriter writer, T entity, EncoderContext encoderContext);
+
+    /**
+     * Sets the properties of the entity, whose values are at the index of the property. A property that was not in the
+     * document is not set, see {@link #isSet(Object)}.
+     */
+    protected abstract void setProperties(T entity, Object[] values);
+
+    protected final void encodeProperty(BsonWriter writer, EncoderContext encoderContext, int index, Object value) {
+        // null values are not written, like the POJO codec does by default
+        if (value != null) {
+            writer.writeName(names[index]);
+            encoderContext.encodeWithChildContext(codecs[index], writer, value);
+        }
+    }
+
+    protected static boolean isSet(Object value) {
+        return value != UNSET;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        if (value.getClass() != type) {
+            // an instance of a subclass has properties this codec does not know about
+            Codec<T> codec = (Codec<T>) registry.get(value.getClass());
+            codec.encode(writer, value, encoderContext);
+            return;
+        }
+        writer.writeStartDocument();
+        encodeProperties(writer, value, encoderContext);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        Object[] values = new Object[names.length];
+        Arrays.fill(values, UNSET);
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer index = indexes.get(reader.readName());
+            if (index == null) {
+                reader.skipValue();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values[index] = null;
+            } else {
+                values[index] = decoderContext.decodeWithChildContext(codecs[index], reader);
+            }
+        }
+        reader.readEndDocument();
+
+        T entity = newInstance();
+        setProperties(entity, values);
+        return entity;
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+}
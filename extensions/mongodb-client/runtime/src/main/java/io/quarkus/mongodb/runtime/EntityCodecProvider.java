@@ -0,0 +1,34 @@
+package io.quarkus.mongodb.runtime;
+
+import java.util.Map;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Provides the {@link EntityCodec}s generated at build time.
+ */
+class EntityCodecProvider implements CodecProvider {
+
+    private final Map<Class<?>, Class<?>> codecClasses;
+
+    EntityCodecProvider(Map<Class<?>, Class<?>> codecClasses) {
+        this.codecClasses = codecClasses;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        Class<?> codecClass = codecClasses.get(clazz);
+        if (codecClass == null) {
+            return null;
+        }
+        try {
+            return (Codec<T>) codecClass.getConstructor(CodecRegistry.class).newInstance(registry);
+        } catch (ReflectiveOperationException e) {
+            throw new CodecConfigurationException("Unable to create the codec of " + clazz.getName(), e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static com.mongodb.AuthenticationMechanism.SCRAM_SHA_1;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,8 +54,8 @@ public class MongoClientRecorder {
             MongoClientConfig config,
             BeanContainer container,
             LaunchMode launchMode, ShutdownContext shutdown,
-            List<String> codecProviders) {
-        initialize(config, codecProviders);
+            List<String> codecProviders, Map<String, String> entityCodecs) {
+        initialize(config, codecProviders, entityCodecs);
 
         MongoClientProducer producer = container.instance(MongoClientProducer.class);
         producer.initialize(client, reactiveMongoClient);
@@ -78,7 +79,7 @@ public class MongoClientRecorder {
         }
     }
 
-    void initialize(MongoClientConfig config, List<String> codecProviders) {
+    void initialize(MongoClientConfig config, List<String> codecProviders, Map<String, String> entityCodecs) {
         CodecRegistry defaultCodecRegistry = com.mongodb.MongoClient.getDefaultCodecRegistry();
 
         MongoClientSettings.Builder settings = MongoClientSettings.builder();
@@ -94,6 +95,11 @@ public class MongoClientRecorder {
         if (!codecProviders.isEmpty()) {
             providers.addAll(getCodecProviders(codecProviders));
         }
+        // the codecs generated for the entities come after the ones provided by the application, which may replace them,
+        // and before the pojo codec provider that they replace
+        if (!entityCodecs.isEmpty()) {
+            providers.add(new EntityCodecProvider(getEntityCodecClasses(entityCodecs)));
+        }
         // add pojo codec provider with automatic capabilities
         // it always needs to be the last codec provided
         CodecProvider pojoCodecProvider = PojoCodecProvider.builder()
@@ -192,6 +198,20 @@ public class MongoClientRecorder {
         return providers;
     }
 
+    Map<Class<?>, Class<?>> getEntityCodecClasses(Map<String, String> entityCodecs) {
+        Map<Class<?>, Class<?>> codecClasses = new HashMap<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (Map.Entry<String, String> entry : entityCodecs.entrySet()) {
+            try {
+                codecClasses.put(classLoader.loadClass(entry.getKey()), classLoader.loadClass(entry.getValue()));
+            } catch (ClassNotFoundException e) {
+                // the entity is then handled by the pojo codec
+                LOGGER.warnf(e, "Unable to load the codec class %s", entry.getValue());
+            }
+        }
+        return codecClasses;
+    }
+
     private AuthenticationMechanism getAuthenticationMechanism(String authMechanism) {
         AuthenticationMechanism mechanism;
         try {
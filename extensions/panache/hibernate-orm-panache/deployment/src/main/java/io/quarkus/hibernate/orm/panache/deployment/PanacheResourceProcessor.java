@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 
 import org.jboss.jandex.ClassInfo;
@@ -22,10 +23,12 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateEnhancersRegisteredBuildItem;
+import io.quarkus.hibernate.orm.deployment.HqlQueryBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.orm.panache.runtime.JpaOperations;
 import io.quarkus.panache.common.deployment.EntityField;
 import io.quarkus.panache.common.deployment.EntityModel;
 import io.quarkus.panache.common.deployment.MetamodelInfo;
@@ -37,6 +40,7 @@ public final class PanacheResourceProcessor {
     private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheRepository.class.getName());
     static final DotName DOTNAME_PANACHE_ENTITY_BASE = DotName.createSimple(PanacheEntityBase.class.getName());
     private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheEntity.class.getName());
+    private static final DotName DOTNAME_ENTITY = DotName.createSimple(Entity.class.getName());
 
     private static final Set<DotName> UNREMOVABLE_BEANS = Collections.singleton(
             DotName.createSimple(EntityManager.class.getName()));
@@ -70,6 +74,22 @@ public final class PanacheResourceProcessor {
         });
     }
 
+    @BuildStep
+    void hqlQueries(CombinedIndexBuildItem index, BuildProducer<HqlQueryBuildItem> hqlQueries) {
+        // the queries of findAll(), count() and deleteAll() don't depend on anything but the entity
+        Set<ClassInfo> entities = new HashSet<>(index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE));
+        entities.addAll(index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY));
+        for (ClassInfo classInfo : entities) {
+            if (classInfo.classAnnotation(DOTNAME_ENTITY) == null) {
+                continue;
+            }
+            String entityName = classInfo.name().toString();
+            hqlQueries.produce(new HqlQueryBuildItem(JpaOperations.createFindQuery(entityName, null, 0)));
+            hqlQueries.produce(new HqlQueryBuildItem(JpaOperations.createCountQuery(entityName, null, 0)));
+            hqlQueries.produce(new HqlQueryBuildItem(JpaOperations.createDeleteQuery(entityName, null, 0)));
+        }
+    }
+
     @BuildStep
     void build(CombinedIndexBuildItem index,
             ApplicationIndexBuildItem applicationIndex,
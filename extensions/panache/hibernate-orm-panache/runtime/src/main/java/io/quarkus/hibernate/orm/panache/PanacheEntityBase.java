@@ -666,6 +666,23 @@ public abstract class PanacheEntityBase {
         JpaOperations.persist(entities);
     }
 
+    /**
+     * Persist all given entities in batches of the given size: the statements of each batch are sent to the database
+     * with JDBC batching, then the persistence context is cleared. This keeps the memory usage flat when persisting a
+     * large number of entities.
+     * <p>
+     * As the persistence context is cleared, all the entities previously loaded or persisted in the current transaction
+     * are detached, and the given entities are detached once their batch has been flushed. To batch the inserts of
+     * entities of different types, enable {@code quarkus.hibernate-orm.jdbc.order-statements}.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist before flushing and clearing the persistence context
+     * @see #persist(Stream)
+     */
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Persist all given entities.
      *
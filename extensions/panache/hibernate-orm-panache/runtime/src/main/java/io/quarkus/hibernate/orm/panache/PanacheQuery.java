@@ -79,6 +79,31 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
+    /**
+     * Restricts this query to the results that come strictly after the given values of its sort columns, and sets the
+     * current page index to zero. Unlike reading the next page by index, the database doesn't need to read and skip
+     * the results of the previous pages, so reading a page costs the same no matter how far it is.
+     * <p>
+     * This requires the query to be sorted with a {@link io.quarkus.panache.common.Sort}, on columns that uniquely
+     * identify a result (typically ending with the id) and are not null. The count of this query, and the methods
+     * depending on it, ignore this restriction.
+     *
+     * @param sortValues the values of the sort columns of the last result read, in the order of the sort columns
+     * @return this query, modified
+     * @see #afterResult(Object)
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... sortValues);
+
+    /**
+     * Restricts this query to the results that come strictly after the given entity, in the order of the sort columns
+     * of this query, and sets the current page index to zero.
+     *
+     * @param lastResult the last result read
+     * @return this query, modified
+     * @see #after(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> afterResult(Entity lastResult);
+
     /**
      * Returns true if there is another page to read after the current one.
      * This will cause reading of the entity count.
@@ -145,6 +170,19 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} that reads them forward only, with the given JDBC fetch
+     * size. The entities it loads are read-only and each of them is detached from the persistence context once the next
+     * one is read, so memory usage doesn't depend on the number of results. The changes made to these entities are
+     * therefore never written to the database. The entities that were already managed before the stream was opened are
+     * returned as is and stay managed. The stream must be closed after use.
+     *
+     * @param fetchSize the number of rows the JDBC driver fetches at a time
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> detachingStream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -11,6 +12,8 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
@@ -52,6 +55,35 @@ public class JpaOperations {
         entities.forEach(entity -> persist(em, entity));
     }
 
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        EntityManager em = getEntityManager();
+        Session session = em.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int count = 0;
+            Iterator<?> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                persist(em, iterator.next());
+                if (++count == batchSize) {
+                    // send the batch and detach its entities so that the persistence context doesn't grow
+                    em.flush();
+                    em.clear();
+                    count = 0;
+                }
+            }
+            if (count > 0) {
+                em.flush();
+                em.clear();
+            }
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
     public static void delete(Object entity) {
         EntityManager em = getEntityManager();
         em.remove(entity);
@@ -112,33 +144,41 @@ public class JpaOperations {
     }
 
     private static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return createFindQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createFindQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ") || trimmedLc.startsWith("select ")) {
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     private static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        return createCountQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createCountQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -146,21 +186,25 @@ public class JpaOperations {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     private static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return createDeleteQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createDeleteQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -168,12 +212,12 @@ public class JpaOperations {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -207,7 +251,7 @@ public class JpaOperations {
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -221,7 +265,7 @@ public class JpaOperations {
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
@@ -284,7 +328,7 @@ public class JpaOperations {
     public static PanacheQuery<?> findAll(Class<?> entityClass) {
         String query = "FROM " + getEntityName(entityClass);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(query), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(query), query, null, null);
     }
 
     @SuppressWarnings("rawtypes")
@@ -292,7 +336,7 @@ public class JpaOperations {
         String query = "FROM " + getEntityName(entityClass);
         String sortedQuery = query + toOrderBy(sort);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, sort, null);
     }
 
     public static List<?> listAll(Class<?> entityClass) {
@@ -1,21 +1,38 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     private Query jpaQuery;
     private Object paramsArrayOrMap;
     private String query;
+    private Sort sort;
     private EntityManager em;
+    private Object[] keysetValues;
 
     /*
      * We store the pageSize and apply it for each request because getFirstResult()
@@ -24,10 +41,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     private Page page;
     private Long count;
 
-    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Object paramsArrayOrMap) {
+    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Sort sort,
+            Object paramsArrayOrMap) {
         this.em = em;
         this.jpaQuery = jpaQuery;
         this.query = query;
+        this.sort = sort;
         this.paramsArrayOrMap = paramsArrayOrMap;
         page = new Page(0, Integer.MAX_VALUE);
     }
@@ -67,6 +86,108 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(page.index(pageCount() - 1));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... sortValues) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new IllegalStateException("Keyset pagination requires a query sorted with a Sort");
+        }
+        List<Sort.Column> columns = sort.getColumns();
+        if (sortValues == null || sortValues.length != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected one value for each of the " + columns.size() + " sort columns of the query");
+        }
+        String lcQuery = query.toLowerCase(Locale.ROOT);
+        if (lcQuery.contains(" order by ") || lcQuery.contains(" group by ")) {
+            throw new IllegalStateException("Keyset pagination is not supported for queries with an ORDER BY or GROUP BY"
+                    + " clause, use a Sort instead: " + query);
+        }
+        keysetValues = sortValues;
+        jpaQuery = createJpaQuery();
+        page = page.first();
+        return (PanacheQuery<T>) this;
+    }
+
+    /**
+     * @return a new query of the results, restricted to the keyset if {@link #after(Object...)} was called, its first
+     *         result and max results not being set
+     */
+    @SuppressWarnings("unchecked")
+    private Query createJpaQuery() {
+        if (keysetValues == null) {
+            Query newQuery = em.createQuery(sort != null ? query + JpaOperations.toOrderBy(sort) : query);
+            if (paramsArrayOrMap instanceof Map) {
+                JpaOperations.bindParameters(newQuery, (Map<String, Object>) paramsArrayOrMap);
+            } else {
+                JpaOperations.bindParameters(newQuery, (Object[]) paramsArrayOrMap);
+            }
+            return newQuery;
+        }
+        List<Sort.Column> columns = sort.getColumns();
+        boolean named = paramsArrayOrMap instanceof Map;
+        int offset = named ? 0 : paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+        // (c1 > ?) OR (c1 = ? AND c2 > ?) OR ..., with < for descending columns
+        StringBuilder keyset = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                keyset.append(" OR ");
+            keyset.append('(');
+            for (int j = 0; j < i; j++) {
+                keyset.append(columns.get(j).getName()).append(" = ").append(keysetParameter(named, offset, j))
+                        .append(" AND ");
+            }
+            keyset.append(columns.get(i).getName())
+                    .append(columns.get(i).getDirection() == Sort.Direction.Ascending ? " > " : " < ")
+                    .append(keysetParameter(named, offset, i)).append(')');
+        }
+        // FIXME: this is as crude as count(), a WHERE in a sub-query of the projection would confuse it
+        int whereIndex = query.toLowerCase(Locale.ROOT).indexOf(" where ");
+        String keysetQuery;
+        if (whereIndex == -1) {
+            keysetQuery = query + " WHERE " + keyset;
+        } else {
+            keysetQuery = query.substring(0, whereIndex) + " WHERE (" + query.substring(whereIndex + 7) + ") AND ("
+                    + keyset + ")";
+        }
+        Query keysetJpaQuery = em.createQuery(keysetQuery + JpaOperations.toOrderBy(sort));
+        if (named) {
+            JpaOperations.bindParameters(keysetJpaQuery, (Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < keysetValues.length; i++) {
+                keysetJpaQuery.setParameter("panacheKeyset" + i, keysetValues[i]);
+            }
+        } else {
+            JpaOperations.bindParameters(keysetJpaQuery, (Object[]) paramsArrayOrMap);
+            for (int i = 0; i < keysetValues.length; i++) {
+                keysetJpaQuery.setParameter(offset + i + 1, keysetValues[i]);
+            }
+        }
+        return keysetJpaQuery;
+    }
+
+    private static String keysetParameter(boolean named, int offset, int index) {
+        return named ? ":panacheKeyset" + index : "?" + (offset + index + 1);
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> afterResult(Entity lastResult) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new IllegalStateException("Keyset pagination requires a query sorted with a Sort");
+        }
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(Hibernate.getClass(lastResult));
+        List<Sort.Column> columns = sort.getColumns();
+        Object[] sortValues = new Object[columns.size()];
+        for (int i = 0; i < sortValues.length; i++) {
+            String name = columns.get(i).getName();
+            if (name.equals(persister.getIdentifierPropertyName())) {
+                sortValues[i] = persister.getIdentifier(lastResult, session);
+            } else {
+                sortValues[i] = persister.getPropertyValue(lastResult, name);
+            }
+        }
+        return after(sortValues);
+    }
+
     @Override
     public boolean hasNextPage() {
         return page.index < (pageCount() - 1);
@@ -97,11 +218,10 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     public long count() {
         if (count == null) {
             // FIXME: this is crude but good enough for a first version
-            String lcQuery = query.toLowerCase();
+            String lcQuery = query.toLowerCase(Locale.ROOT);
             int orderByIndex = lcQuery.lastIndexOf(" order by ");
-            if (orderByIndex != -1)
-                query = query.substring(0, orderByIndex);
-            Query countQuery = em.createQuery("SELECT COUNT(*) " + query);
+            String countedQuery = orderByIndex != -1 ? query.substring(0, orderByIndex) : query;
+            Query countQuery = em.createQuery("SELECT COUNT(*) " + countedQuery);
             if (paramsArrayOrMap instanceof Map)
                 JpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
             else
@@ -125,6 +245,22 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return jpaQuery.getResultStream();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> detachingStream(int fetchSize) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        // a query of its own, so that the settings below don't leak into the other results of this query
+        org.hibernate.query.Query<?> hibernateQuery = createJpaQuery().unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFirstResult(page.index * page.size);
+        hibernateQuery.setMaxResults(page.size);
+        hibernateQuery.setFetchSize(fetchSize);
+        // no snapshots are needed for entities that are detached right away
+        hibernateQuery.setReadOnly(true);
+        ScrollableResults results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        DetachingSpliterator<T> spliterator = new DetachingSpliterator<>(session, results);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         List<T> list = list();
@@ -138,4 +274,59 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         jpaQuery.setMaxResults(page.size);
         return (T) jpaQuery.getSingleResult();
     }
+
+    /**
+     * Reads the results forward only, and detaches each entity from the session once the next one is read, so that
+     * the session doesn't grow with the number of results. Only the entities loaded by the stream are detached, the
+     * ones that were already managed when it was opened are left in the session with their changes.
+     */
+    private static final class DetachingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final SessionImplementor session;
+        private final ScrollableResults results;
+        private final Set<Object> managedBefore;
+        private Object previous;
+
+        DetachingSpliterator(SessionImplementor session, ScrollableResults results) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.session = session;
+            this.results = results;
+            this.managedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.managedBefore.addAll(session.getPersistenceContext().getEntitiesByKey().values());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            detachPrevious();
+            if (!results.next()) {
+                return false;
+            }
+            Object[] row = results.get();
+            Object result = row.length == 1 ? row[0] : row;
+            previous = result;
+            action.accept((T) result);
+            return true;
+        }
+
+        private void detachPrevious() {
+            Object entity = previous;
+            previous = null;
+            // projections are not managed
+            if (entity != null && !managedBefore.contains(entity)
+                    && session.getPersistenceContext().getEntry(entity) != null) {
+                session.detach(entity);
+            }
+        }
+
+        void close() {
+            try {
+                if (session.isOpen()) {
+                    detachPrevious();
+                }
+            } finally {
+                results.close();
+            }
+        }
+    }
 }
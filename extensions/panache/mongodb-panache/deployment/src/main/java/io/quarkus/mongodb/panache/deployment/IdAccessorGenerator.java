@@ -0,0 +1,117 @@
+package io.quarkus.mongodb.panache.deployment;
+
+import java.lang.reflect.Modifier;
+
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.deployment.bean.JavaBeanUtil;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.mongodb.panache.runtime.IdAccessor;
+
+/**
+ * Generates the {@link IdAccessor} of an entity, which reads its ID the way the POJO codec of the MongoDB driver does: the
+ * property annotated with {@link BsonId}, or else the {@code id} property.
+ */
+final class IdAccessorGenerator {
+
+    private static final DotName DOTNAME_BSON_ID = DotName.createSimple(BsonId.class.getName());
+    private static final DotName DOTNAME_BSON_IGNORE = DotName.createSimple(BsonIgnore.class.getName());
+    private static final DotName DOTNAME_OBJECT = DotName.createSimple(Object.class.getName());
+    private static final String ID = "id";
+
+    private IdAccessorGenerator() {
+    }
+
+    /**
+     * @return the name of the generated accessor, or {@code null} if the ID of the entity cannot be read directly
+     */
+    static String generate(ClassInfo entity, IndexView index, ClassOutput classOutput) {
+        FieldInfo idField = findIdField(entity, index);
+        if (idField == null || idField.type().kind() == Type.Kind.PRIMITIVE
+                || idField.annotation(DOTNAME_BSON_IGNORE) != null) {
+            return null;
+        }
+        MethodInfo getter = findGetter(idField, entity, index);
+        if (getter != null ? !isAccessible(getter.flags(), getter.declaringClass())
+                : !isAccessible(idField.flags(), idField.declaringClass())) {
+            return null;
+        }
+
+        String entityName = entity.name().toString();
+        String accessorName = entityName + IdAccessor.SUFFIX;
+        try (ClassCreator accessor = ClassCreator.builder().classOutput(classOutput)
+                .className(accessorName.replace('.', '/'))
+                .interfaces(IdAccessor.class).build()) {
+            MethodCreator getId = accessor.getMethodCreator("getId", Object.class, Object.class);
+            ResultHandle entityHandle = getId.checkCast(getId.getMethodParam(0), entityName);
+            ResultHandle id;
+            if (getter != null) {
+                // the codec uses the getter when there is one
+                id = getId.invokeVirtualMethod(MethodDescriptor.of(getter), entityHandle);
+            } else {
+                id = getId.readInstanceField(FieldDescriptor.of(idField), entityHandle);
+            }
+            getId.returnValue(id);
+        }
+        return accessorName;
+    }
+
+    private static FieldInfo findIdField(ClassInfo entity, IndexView index) {
+        FieldInfo namedId = null;
+        ClassInfo classInfo = entity;
+        while (classInfo != null) {
+            for (MethodInfo method : classInfo.methods()) {
+                if (method.hasAnnotation(DOTNAME_BSON_ID)) {
+                    // the ID is declared on an accessor, it is read from the encoded entity instead
+                    return null;
+                }
+            }
+            for (FieldInfo field : classInfo.fields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) {
+                    continue;
+                }
+                if (field.annotation(DOTNAME_BSON_ID) != null) {
+                    return field;
+                }
+                if (namedId == null && field.name().equals(ID)) {
+                    namedId = field;
+                }
+            }
+            classInfo = classInfo.superName() == null || classInfo.superName().equals(DOTNAME_OBJECT) ? null
+                    : index.getClassByName(classInfo.superName());
+        }
+        return namedId;
+    }
+
+    private static MethodInfo findGetter(FieldInfo field, ClassInfo entity, IndexView index) {
+        String getterName = JavaBeanUtil.getGetterName(field.name(), field.type().name().toString());
+        ClassInfo classInfo = entity;
+        while (classInfo != null) {
+            MethodInfo getter = classInfo.method(getterName);
+            if (getter != null && !Modifier.isStatic(getter.flags())) {
+                return getter;
+            }
+            if (classInfo.name().equals(field.declaringClass().name())) {
+                return null;
+            }
+            classInfo = classInfo.superName() == null ? null : index.getClassByName(classInfo.superName());
+        }
+        return null;
+    }
+
+    private static boolean isAccessible(int flags, ClassInfo declaringClass) {
+        return Modifier.isPublic(flags) && Modifier.isPublic(declaringClass.flags());
+    }
+}
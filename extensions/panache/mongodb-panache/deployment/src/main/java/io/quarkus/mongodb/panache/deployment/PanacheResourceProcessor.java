@@ -1,26 +1,37 @@
 package io.quarkus.mongodb.panache.deployment;
 
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.bson.types.ObjectId;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.Type;
 
+import io.quarkus.deployment.GizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.index.IndexingUtil;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.jackson.spi.JacksonModuleBuildItem;
 import io.quarkus.jsonb.spi.JsonbDeserializerBuildItem;
 import io.quarkus.jsonb.spi.JsonbSerializerBuildItem;
+import io.quarkus.mongodb.deployment.MongoEntityClassBuildItem;
+import io.quarkus.mongodb.panache.MongoEntity;
 import io.quarkus.mongodb.panache.PanacheMongoEntity;
 import io.quarkus.mongodb.panache.PanacheMongoEntityBase;
 import io.quarkus.mongodb.panache.PanacheMongoRepository;
@@ -34,6 +45,7 @@ public class PanacheResourceProcessor {
     private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheMongoEntity.class.getName());
 
     private static final DotName DOTNAME_OBJECT_ID = DotName.createSimple(ObjectId.class.getName());
+    private static final DotName DOTNAME_MONGO_ENTITY = DotName.createSimple(MongoEntity.class.getName());
 
     @BuildStep(providesCapabilities = "io.quarkus.mongodb.panache")
     FeatureBuildItem featureBuildItem() {
@@ -70,6 +82,49 @@ public class PanacheResourceProcessor {
         return new ReflectiveHierarchyBuildItem(type, compositeIndex);
     }
 
+    @BuildStep
+    void registerEntityClasses(CombinedIndexBuildItem index, BuildProducer<MongoEntityClassBuildItem> entityClasses) {
+        // the MongoDB client generates their codecs
+        for (ClassInfo entity : collectEntities(index).values()) {
+            entityClasses.produce(new MongoEntityClassBuildItem(entity.name().toString()));
+        }
+    }
+
+    @BuildStep
+    void generateIdAccessors(CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        ClassOutput classOutput = new GizmoAdaptor(generatedClass, true);
+        for (ClassInfo entity : collectEntities(index).values()) {
+            String accessorClass = IdAccessorGenerator.generate(entity, index.getIndex(), classOutput);
+            if (accessorClass != null) {
+                // it is looked up by name by MongoOperations
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, accessorClass));
+            }
+        }
+    }
+
+    /**
+     * @return the concrete Panache entities and entities annotated with @MongoEntity, which are the ones used by
+     *         repositories
+     */
+    private static Map<DotName, ClassInfo> collectEntities(CombinedIndexBuildItem index) {
+        Map<DotName, ClassInfo> entities = new HashMap<>();
+        for (ClassInfo classInfo : index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE)) {
+            entities.put(classInfo.name(), classInfo);
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY)) {
+            entities.put(classInfo.name(), classInfo);
+        }
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(DOTNAME_MONGO_ENTITY)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                entities.put(annotation.target().asClass().name(), annotation.target().asClass());
+            }
+        }
+        entities.values().removeIf(entity -> Modifier.isAbstract(entity.flags()) || Modifier.isInterface(entity.flags()));
+        return entities;
+    }
+
     @BuildStep
     void build(CombinedIndexBuildItem index,
             ApplicationIndexBuildItem applicationIndex,
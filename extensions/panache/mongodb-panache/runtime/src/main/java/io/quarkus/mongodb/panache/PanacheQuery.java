@@ -3,6 +3,8 @@ package io.quarkus.mongodb.panache;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.reactivestreams.Publisher;
+
 import io.quarkus.panache.common.Page;
 
 /**
@@ -72,6 +74,16 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
+    /**
+     * Sets the number of documents the cursor fetches from the database at a time. By default the batch size is chosen
+     * by the database.
+     *
+     * @param batchSize the number of documents per batch
+     * @return this query, modified
+     * @see #stream()
+     */
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize);
+
     /**
      * Returns true if there is another page to read after the current one.
      * This will cause reading of the entity count.
@@ -129,15 +141,27 @@ public interface PanacheQuery<Entity> {
     public <T extends Entity> List<T> list();
 
     /**
-     * Returns the current page of results as a {@link Stream}.
+     * Returns the current page of results as a {@link Stream}. The stream reads the results lazily from a database
+     * cursor, one batch at a time, so it must be closed after use to release the cursor.
      * 
      * @return the current page of results as a {@link Stream}.
      * @see #list()
+     * @see #withBatchSize(int)
      * @see #page(Page)
      * @see #page()
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Publisher}, read with the reactive MongoDB client. Each subscription
+     * executes the query and reads the results one batch at a time, as they are requested.
+     *
+     * @return the current page of results as a {@link Publisher}.
+     * @see #stream()
+     * @see #withBatchSize(int)
+     */
+    public <T extends Entity> Publisher<T> publisher();
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -0,0 +1,17 @@
+package io.quarkus.mongodb.panache.runtime;
+
+/**
+ * Reads the ID of an entity without encoding it.
+ * <p>
+ * An implementation is generated at build time for each entity whose ID is a public field or has a public getter. It is
+ * named after the entity class with the {@link #SUFFIX} suffix.
+ */
+public interface IdAccessor {
+
+    String SUFFIX = "_PanacheIdAccessor";
+
+    /**
+     * @return the ID of the entity, or {@code null} if it has not been set yet
+     */
+    Object getId(Object entity);
+}
@@ -2,6 +2,7 @@ package io.quarkus.mongodb.panache.runtime;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -13,12 +14,14 @@ import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
@@ -26,6 +29,9 @@ import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.mongodb.ReactiveMongoClient;
+import io.quarkus.mongodb.ReactiveMongoCollection;
+import io.quarkus.mongodb.ReactiveMongoDatabase;
 import io.quarkus.mongodb.panache.MongoEntity;
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
@@ -35,6 +41,26 @@ public class MongoOperations {
     private static final Logger LOGGER = Logger.getLogger(MongoOperations.class);
     public static final String ID = "_id";
     public static final String MONGODB_DATABASE = "quarkus.mongodb.database";
+
+    private static final int BULK_SIZE = 1000;
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final ReplaceOptions UPSERT = ReplaceOptions.createReplaceOptions(new UpdateOptions().upsert(true));
+
+    // the accessors generated at build time, an entity without accessor is encoded to read its ID
+    private static final ClassValue<IdAccessor> ID_ACCESSORS = new ClassValue<IdAccessor>() {
+        @Override
+        protected IdAccessor computeValue(Class<?> type) {
+            try {
+                Class<?> accessorClass = Class.forName(type.getName() + IdAccessor.SUFFIX, true, type.getClassLoader());
+                return (IdAccessor) accessorClass.getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException e) {
+                return null;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create the ID accessor of " + type.getName(), e);
+            }
+        }
+    };
+
     //
     // Instance methods
 
@@ -128,18 +154,7 @@ public class MongoOperations {
     }
 
     public static void persistOrUpdate(Iterable<?> entities) {
-        // not all iterables are re-traversal, so we traverse it once for copying inside a list
-        List<Object> objects = new ArrayList<>();
-        for (Object entity : entities) {
-            objects.add(entity);
-        }
-
-        if (objects.size() > 0) {
-            // get the first entity to be able to retrieve the collection with it
-            Object firstEntity = objects.get(0);
-            MongoCollection collection = mongoCollection(firstEntity);
-            persistOrUpdate(collection, objects);
-        }
+        persistOrUpdate(entities.iterator());
     }
 
     public static void persistOrUpdate(Object firstEntity, Object... entities) {
@@ -150,25 +165,24 @@ public class MongoOperations {
             List<Object> entityList = new ArrayList<>();
             entityList.add(firstEntity);
             entityList.addAll(Arrays.asList(entities));
-            persistOrUpdate(collection, entityList);
+            persistOrUpdate(entityList.iterator());
         }
     }
 
     public static void persistOrUpdate(Stream<?> entities) {
-        List<Object> objects = entities.collect(Collectors.toList());
-        if (objects.size() > 0) {
-            // get the first entity to be able to retrieve the collection with it
-            Object firstEntity = objects.get(0);
-            MongoCollection collection = mongoCollection(firstEntity);
-            persistOrUpdate(collection, objects);
-        }
+        persistOrUpdate(entities.iterator());
     }
 
     public static void delete(Object entity) {
         MongoCollection collection = mongoCollection(entity);
-        BsonDocument document = getBsonDocument(collection, entity);
-        BsonValue id = document.get(ID);
-        BsonDocument query = new BsonDocument().append(ID, id);
+        Object id = getId(entity);
+        BsonDocument query;
+        if (id != null) {
+            query = idQuery(collection, id);
+        } else {
+            BsonDocument document = getBsonDocument(collection, entity);
+            query = new BsonDocument().append(ID, document.get(ID));
+        }
         collection.deleteOne(query);
     }
 
@@ -181,6 +195,16 @@ public class MongoOperations {
         return database.getCollection(entityClass.getSimpleName(), entityClass);
     }
 
+    public static ReactiveMongoCollection reactiveMongoCollection(Class<?> entityClass) {
+        MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
+        ReactiveMongoClient mongoClient = Arc.container().instance(ReactiveMongoClient.class).get();
+        ReactiveMongoDatabase database = mongoClient.getDatabase(databaseName(mongoEntity));
+        if (mongoEntity != null && !mongoEntity.collection().isEmpty()) {
+            return database.getCollection(mongoEntity.collection(), entityClass);
+        }
+        return database.getCollection(entityClass.getSimpleName(), entityClass);
+    }
+
     public static MongoDatabase mongoDatabase(Class<?> entityClass) {
         MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
         return mongoDatabase(mongoEntity);
@@ -198,13 +222,20 @@ public class MongoOperations {
     }
 
     private static void update(MongoCollection collection, Object entity) {
+        Object id = getId(entity);
+        if (id != null) {
+            collection.replaceOne(idQuery(collection, id), entity);
+            return;
+        }
+
         //we transform the entity as a document first
         BsonDocument document = getBsonDocument(collection, entity);
 
-        //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
-        BsonDocument query = new BsonDocument().append(ID, id);
-        collection.replaceOne(query, entity);
+        //then we get its id field and create a new Document with only this one that will be our replace query,
+        //the document is the replacement so that the entity is not encoded a second time
+        BsonValue documentId = document.get(ID);
+        BsonDocument query = new BsonDocument().append(ID, documentId);
+        collection.replaceOne(query, document);
     }
 
     private static void update(MongoCollection collection, List<Object> entities) {
@@ -214,42 +245,88 @@ public class MongoOperations {
     }
 
     private static void persistOrUpdate(MongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
-
-        //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
-        if (id == null) {
-            //insert with autogenerated ID
-            collection.insertOne(entity);
+        WriteModel model = persistOrUpdateModel(collection, entity);
+        if (model instanceof InsertOneModel) {
+            collection.insertOne(((InsertOneModel) model).getDocument());
         } else {
-            //insert with user provided ID or update
-            BsonDocument query = new BsonDocument().append(ID, id);
-            collection.replaceOne(query, entity, ReplaceOptions.createReplaceOptions(new UpdateOptions().upsert(true)));
+            ReplaceOneModel replace = (ReplaceOneModel) model;
+            collection.replaceOne(replace.getFilter(), replace.getReplacement(), replace.getReplaceOptions());
         }
     }
 
-    private static void persistOrUpdate(MongoCollection collection, List<Object> entities) {
-        //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
+    private static void persistOrUpdate(Iterator<?> entities) {
+        //this is an unordered bulk: the writes of a chunk are not stopped by a failed one, the failures are reported
+        //together once the chunk has been written and the next chunks are not written
+        MongoCollection collection = null;
         List<WriteModel> bulk = new ArrayList<>();
-        for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (collection == null) {
+                // get the first entity to be able to retrieve the collection with it
+                collection = mongoCollection(entity);
+            }
+            bulk.add(persistOrUpdateModel(collection, entity));
 
-            //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
+            //large inputs are written in chunks so that they are not held in memory at once
+            if (bulk.size() == BULK_SIZE) {
+                collection.bulkWrite(bulk, UNORDERED);
+                bulk = new ArrayList<>();
+            }
+        }
+
+        if (!bulk.isEmpty()) {
+            collection.bulkWrite(bulk, UNORDERED);
+        }
+    }
+
+    /**
+     * Creates the write of an entity, which encodes it only once: the entity is written as is when its ID can be read by
+     * its accessor, otherwise its encoded document is written, unless it has no ID yet and must be encoded again for its
+     * generated ID to be set on it.
+     */
+    private static WriteModel persistOrUpdateModel(MongoCollection collection, Object entity) {
+        IdAccessor idAccessor = ID_ACCESSORS.get(entity.getClass());
+        if (idAccessor != null) {
+            Object id = idAccessor.getId(entity);
             if (id == null) {
-                //insert with autogenerated ID
-                bulk.add(new InsertOneModel(entity));
-            } else {
-                //insert with user provided ID or update
-                BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
-                        ReplaceOptions.createReplaceOptions(new UpdateOptions().upsert(true))));
+                //insert with autogenerated ID, it is set on the entity when it is encoded
+                return new InsertOneModel(entity);
             }
+            //insert with user provided ID or update
+            return new ReplaceOneModel(idQuery(collection, id), entity, UPSERT);
+        }
+
+        //we transform the entity as a document first
+        BsonDocument document = getBsonDocument(collection, entity);
+
+        //then we get its id field and create a new Document with only this one that will be our replace query
+        BsonValue id = document.get(ID);
+        if (id == null) {
+            //insert with autogenerated ID, the entity is written so that the generated ID is set on it
+            return new InsertOneModel(entity);
         }
+        //insert with user provided ID or update
+        BsonDocument query = new BsonDocument().append(ID, id);
+        return new ReplaceOneModel(query, document, UPSERT);
+    }
 
-        collection.bulkWrite(bulk);
+    /**
+     * @return the ID read by the accessor of the entity, or {@code null} if it has no accessor or no ID yet
+     */
+    private static Object getId(Object entity) {
+        IdAccessor idAccessor = ID_ACCESSORS.get(entity.getClass());
+        return idAccessor != null ? idAccessor.getId(entity) : null;
+    }
+
+    private static BsonDocument idQuery(MongoCollection collection, Object id) {
+        BsonDocument query = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(query);
+        writer.writeStartDocument();
+        writer.writeName(ID);
+        Codec codec = collection.getCodecRegistry().get(id.getClass());
+        EncoderContext.builder().build().encodeWithChildContext(codec, writer, id);
+        writer.writeEndDocument();
+        return query;
     }
 
     private static BsonDocument getBsonDocument(MongoCollection collection, Object entity) {
@@ -266,12 +343,15 @@ public class MongoOperations {
 
     private static MongoDatabase mongoDatabase(MongoEntity entity) {
         MongoClient mongoClient = Arc.container().instance(MongoClient.class).get();
+        return mongoClient.getDatabase(databaseName(entity));
+    }
+
+    private static String databaseName(MongoEntity entity) {
         if (entity != null && !entity.database().isEmpty()) {
-            return mongoClient.getDatabase(entity.database());
+            return entity.database();
         }
-        String databaseName = ConfigProvider.getConfig()
+        return ConfigProvider.getConfig()
                 .getValue(MONGODB_DATABASE, String.class);
-        return mongoClient.getDatabase(databaseName);
     }
 
     //
@@ -288,13 +368,38 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, entityClass, docQuery, docSort);
     }
 
+    /**
+     * Binds the parameters to the cached template of the query, falling back to the string binding when the query cannot
+     * be turned into a template.
+     */
+    static Bson bindFilter(Class<?> clazz, String query, Object[] params) {
+        BsonDocument filter = QueryTemplate.bind(clazz, query, params);
+        if (filter == null) {
+            return BsonDocument.parse(bindQuery(clazz, query, params));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
+    static Bson bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
+        BsonDocument filter = QueryTemplate.bind(clazz, query, params);
+        if (filter == null) {
+            return BsonDocument.parse(bindQuery(clazz, query, params));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(filter.toJson());
+        }
+        return filter;
+    }
+
     /**
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1</code> for PanacheQL one.
@@ -341,8 +446,7 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, entityClass, docQuery, docSort);
@@ -487,15 +591,13 @@ public class MongoOperations {
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -516,15 +618,13 @@ public class MongoOperations {
     }
 
     public static long delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
 
     public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Bson docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
@@ -2,21 +2,28 @@ package io.quarkus.mongodb.panache.runtime;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
 
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 
+import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.ReactiveMongoCollection;
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     private MongoCollection collection;
     private Class<? extends Entity> entityClass;
-    private Document mongoQuery;
+    private Bson mongoQuery;
     private Document sort;
 
     /*
@@ -25,8 +32,9 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
      */
     private Page page;
     private Long count;
+    private int batchSize;
 
-    PanacheQueryImpl(MongoCollection<? extends Entity> collection, Class<? extends Entity> entityClass, Document mongoQuery,
+    PanacheQueryImpl(MongoCollection<? extends Entity> collection, Class<? extends Entity> entityClass, Bson mongoQuery,
             Document sort) {
         this.collection = collection;
         this.entityClass = entityClass;
@@ -69,6 +77,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(page.index(pageCount() - 1));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return (PanacheQuery<T>) this;
+    }
+
     @Override
     public boolean hasNextPage() {
         return page.index < (pageCount() - 1);
@@ -107,8 +122,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
-        MongoCursor<T> cursor = find.sort(sort).skip(page.index).limit(page.size).iterator();
+        MongoCursor<T> cursor = cursor();
 
         try {
             while (cursor.hasNext()) {
@@ -124,7 +138,34 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
-        return (Stream<T>) list().stream();
+        MongoCursor<T> cursor = cursor();
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(cursor,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Publisher<T> publisher() {
+        ReactiveMongoCollection reactiveCollection = MongoOperations.reactiveMongoCollection(entityClass);
+        FindOptions options = new FindOptions().skip(page.index).limit(page.size).batchSize(batchSize);
+        if (mongoQuery != null) {
+            options.filter(mongoQuery);
+        }
+        if (sort != null) {
+            options.sort(sort);
+        }
+        return reactiveCollection.find(options).buildRs();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> MongoCursor<T> cursor() {
+        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
+        find.sort(sort).skip(page.index).limit(page.size);
+        if (batchSize > 0) {
+            find.batchSize(batchSize);
+        }
+        return find.iterator();
     }
 
     @Override
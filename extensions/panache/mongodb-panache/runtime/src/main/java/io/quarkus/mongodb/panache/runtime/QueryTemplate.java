@@ -0,0 +1,200 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * A PanacheQL or native query parsed once into a {@link BsonDocument}, in which each parameter is a slot.
+ * <p>
+ * The template is obtained by binding the query to marker strings instead of the parameter values and parsing the result.
+ * Binding a template then copies it, replacing each marker with the {@link BsonValue} of its parameter, so neither the
+ * query string nor the JSON document is built or parsed again. Queries whose parameters are not standalone values (for
+ * example a parameter inside a string literal) cannot be turned into a template and keep being bound as strings.
+ */
+final class QueryTemplate {
+
+    private static final String MARKER_PREFIX = "$panache$param$";
+    // per entity class
+    private static final int MAX_TEMPLATES = 1024;
+
+    // marks a query that cannot be turned into a template, so that it is not compiled again
+    private static final QueryTemplate UNSUPPORTED = new QueryTemplate(null);
+
+    // keyed by the entity class itself rather than its name, so that the templates of a class reloaded in dev mode, whose
+    // fields may have changed, are not used for the new class and go away with the old one
+    private static final ClassValue<ConcurrentMap<String, QueryTemplate>> TEMPLATES =
+            new ClassValue<ConcurrentMap<String, QueryTemplate>>() {
+                @Override
+                protected ConcurrentMap<String, QueryTemplate> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final BsonDocument template;
+
+    private QueryTemplate(BsonDocument template) {
+        this.template = template;
+    }
+
+    /**
+     * @return the bound query, or {@code null} if the query cannot be turned into a template or if there is no room left
+     *         for its template
+     */
+    static BsonDocument bind(Class<?> clazz, String query, Object[] params) {
+        ConcurrentMap<String, QueryTemplate> templates = TEMPLATES.get(clazz);
+        String key = params.length + "|" + query;
+        QueryTemplate template = templates.get(key);
+        if (template == null) {
+            if (isFull(templates)) {
+                return null;
+            }
+            Object[] markers = new Object[params.length];
+            for (int i = 1; i <= params.length; i++) {
+                markers[i - 1] = MARKER_PREFIX + "?" + i;
+            }
+            template = compile(MongoOperations.bindQuery(clazz, query, markers), Arrays.asList(markers));
+            templates.putIfAbsent(key, template);
+        }
+        if (template == UNSUPPORTED) {
+            return null;
+        }
+        return (BsonDocument) template.bind(template.template, params, null);
+    }
+
+    /**
+     * @return the bound query, or {@code null} if the query cannot be turned into a template or if there is no room left
+     *         for its template
+     */
+    static BsonDocument bind(Class<?> clazz, String query, Map<String, Object> params) {
+        ConcurrentMap<String, QueryTemplate> templates = TEMPLATES.get(clazz);
+        String key = new TreeSet<>(params.keySet()) + "|" + query;
+        QueryTemplate template = templates.get(key);
+        if (template == null) {
+            if (isFull(templates)) {
+                return null;
+            }
+            Map<String, Object> markers = new HashMap<>();
+            for (String name : params.keySet()) {
+                markers.put(name, MARKER_PREFIX + ":" + name);
+            }
+            template = compile(MongoOperations.bindQuery(clazz, query, markers), markers.values());
+            templates.putIfAbsent(key, template);
+        }
+        if (template == UNSUPPORTED) {
+            return null;
+        }
+        return (BsonDocument) template.bind(template.template, null, params);
+    }
+
+    private static boolean isFull(ConcurrentMap<String, QueryTemplate> templates) {
+        // queries built with inlined values would otherwise grow the cache without bound, the queries that don't fit are
+        // bound as strings rather than compiled to a template on each call
+        return templates.size() >= MAX_TEMPLATES;
+    }
+
+    private static QueryTemplate compile(String boundQuery, Collection<Object> markers) {
+        BsonDocument template = BsonDocument.parse(boundQuery);
+        return hasEmbeddedMarker(template, markers) ? UNSUPPORTED : new QueryTemplate(template);
+    }
+
+    /**
+     * Checks whether a marker is part of a key or of a larger string, instead of being a whole value.
+     */
+    private static boolean hasEmbeddedMarker(BsonValue value, Collection<Object> markers) {
+        if (value.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (entry.getKey().contains(MARKER_PREFIX) || hasEmbeddedMarker(entry.getValue(), markers)) {
+                    return true;
+                }
+            }
+        } else if (value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                if (hasEmbeddedMarker(element, markers)) {
+                    return true;
+                }
+            }
+        } else if (value.isString()) {
+            String string = value.asString().getValue();
+            return string.contains(MARKER_PREFIX) && !markers.contains(string);
+        }
+        return false;
+    }
+
+    private BsonValue bind(BsonValue value, Object[] indexedParams, Map<String, Object> namedParams) {
+        if (value.isDocument()) {
+            BsonDocument document = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                document.append(entry.getKey(), bind(entry.getValue(), indexedParams, namedParams));
+            }
+            return document;
+        }
+        if (value.isArray()) {
+            BsonArray array = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                array.add(bind(element, indexedParams, namedParams));
+            }
+            return array;
+        }
+        if (value.isString() && value.asString().getValue().startsWith(MARKER_PREFIX)) {
+            String parameter = value.asString().getValue().substring(MARKER_PREFIX.length());
+            if (indexedParams != null) {
+                return toBsonValue(indexedParams[Integer.parseInt(parameter.substring(1)) - 1]);
+            }
+            return toBsonValue(namedParams.get(parameter.substring(1)));
+        }
+        return value;
+    }
+
+    /**
+     * Converts a parameter to the value the string binders produce for it once parsed.
+     */
+    static BsonValue toBsonValue(Object value) {
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof String) {
+            return new BsonString((String) value);
+        }
+        if (value instanceof Boolean) {
+            return BsonBoolean.valueOf((Boolean) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return new BsonInt32(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            long longValue = (Long) value;
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                return new BsonInt32((int) longValue);
+            }
+            return new BsonInt64(longValue);
+        }
+        if (value instanceof Double) {
+            return new BsonDouble((Double) value);
+        }
+        if (value instanceof Float) {
+            // the string binders write the shortest decimal form of the float, not its exact double value
+            return new BsonDouble(Double.parseDouble(value.toString()));
+        }
+        if (value instanceof Number || value instanceof java.util.Date || value instanceof java.time.LocalDate
+                || value instanceof java.time.LocalDateTime) {
+            // keep the exact conversion of the JSON reader for these types, dates are interpreted by their ISODate form
+            return BsonDocument.parse("{'v':" + CommonQueryBinder.escape(value) + "}").get("v");
+        }
+        return new BsonString(value.toString());
+    }
+}
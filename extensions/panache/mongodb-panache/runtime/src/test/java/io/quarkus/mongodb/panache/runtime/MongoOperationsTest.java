@@ -2,11 +2,16 @@ package io.quarkus.mongodb.panache.runtime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Map;
 
+import org.bson.BsonDocument;
 import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.junit.jupiter.api.Test;
 
@@ -205,4 +210,62 @@ class MongoOperationsTest {
         assertEquals("{'field':{'$regex':'a value'}}", query);
     }
 
+    @Test
+    public void testBindFilterFromTemplate() {
+        assertBindFilter(Object.class, "field", new Object[] { "a value" });
+        assertBindFilter(DemoObj.class, "property = ?1 and isOk = ?2", new Object[] { "a value", true });
+        assertBindFilter(Object.class, "field = ?1 or count > ?2", new Object[] { "a value", 5L });
+        assertBindFilter(Object.class, "count >= ?1 and count < ?2", new Object[] { 5, 10.5 });
+        assertBindFilter(Object.class, "count >= ?1 and count < ?2", new Object[] { 0.1f, 1.1f });
+        assertBindFilter(Object.class, "field = ?1", new Object[] { LocalDate.of(2019, 3, 4) });
+        assertBindFilter(Object.class, "field = ?1", new Object[] { "it's a \\ value" });
+        assertBindFilter(Object.class, "{'field': ?1, 'isOk': ?2}", new Object[] { "a value", true });
+        assertBindFilter(Object.class, "{'field': {'$in': [?1, ?2]}}", new Object[] { 1, 2 });
+
+        // the template is reused with other values
+        assertBindFilter(DemoObj.class, "property = ?1 and isOk = ?2", new Object[] { "another value", false });
+
+        Map<String, Object> params = Parameters.with("field", "a value").and("isOk", true).map();
+        assertEquals(BsonDocument.parse(MongoOperations.bindQuery(Object.class, "field = :field or isOk = :isOk", params)),
+                MongoOperations.bindFilter(Object.class, "field = :field or isOk = :isOk", params));
+        assertEquals(BsonDocument.parse(MongoOperations.bindQuery(Object.class, "{'field': :field}", params)),
+                MongoOperations.bindFilter(Object.class, "{'field': :field}", params));
+    }
+
+    @Test
+    public void testBindFilterOfAReloadedClass() throws Exception {
+        assertEquals(BsonDocument.parse("{'value':'a value'}"),
+                MongoOperations.bindFilter(DemoObj.class, "property = ?1", new Object[] { "a value" }));
+
+        // a class with the same name whose field is no longer mapped, as after a dev mode reload: the @BsonProperty
+        // annotation can't be loaded by its class loader so it is dropped
+        Class<?> reloaded = new ClassLoader(null) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                if (!name.equals(DemoObj.class.getName())) {
+                    throw new ClassNotFoundException(name);
+                }
+                String resource = name.replace('.', '/') + ".class";
+                try (InputStream in = MongoOperationsTest.class.getClassLoader().getResourceAsStream(resource)) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                    byte[] bytes = out.toByteArray();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }.loadClass(DemoObj.class.getName());
+        assertEquals(BsonDocument.parse("{'property':'a value'}"),
+                MongoOperations.bindFilter(reloaded, "property = ?1", new Object[] { "a value" }));
+    }
+
+    private void assertBindFilter(Class<?> clazz, String query, Object[] params) {
+        assertEquals(BsonDocument.parse(MongoOperations.bindQuery(clazz, query, params)),
+                MongoOperations.bindFilter(clazz, query, params));
+    }
 }
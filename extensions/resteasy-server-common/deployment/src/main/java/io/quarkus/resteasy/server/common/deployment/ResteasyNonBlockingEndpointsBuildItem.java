@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.server.common.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item that holds the resource methods and sub-resource locators of the deployment. It is only produced if at least
+ * one resource method is annotated with {@code io.quarkus.resteasy.NonBlocking}.
+ * <p>
+ * The paths are relative to the RESTEasy deployment root path.
+ */
+public final class ResteasyNonBlockingEndpointsBuildItem extends SimpleBuildItem {
+
+    private final List<Endpoint> endpoints;
+
+    public ResteasyNonBlockingEndpointsBuildItem(List<Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public static final class Endpoint {
+
+        private final String httpMethod;
+
+        private final String path;
+
+        private final boolean nonBlocking;
+
+        public Endpoint(String httpMethod, String path, boolean nonBlocking) {
+            this.httpMethod = httpMethod;
+            this.path = path;
+            this.nonBlocking = nonBlocking;
+        }
+
+        /**
+         *
+         * @return the HTTP method or {@code null} for a sub-resource locator
+         */
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public boolean isNonBlocking() {
+            return nonBlocking;
+        }
+    }
+}
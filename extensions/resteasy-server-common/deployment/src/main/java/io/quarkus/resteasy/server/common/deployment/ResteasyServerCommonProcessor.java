@@ -81,6 +81,8 @@ public class ResteasyServerCommonProcessor {
 
     private static final DotName JSONB_ANNOTATION = DotName.createSimple("javax.json.bind.annotation.JsonbAnnotation");
 
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.quarkus.resteasy.NonBlocking");
+
     private static final DotName[] METHOD_ANNOTATIONS = {
             ResteasyDotNames.GET,
             ResteasyDotNames.HEAD,
@@ -152,6 +154,7 @@ public class ResteasyServerCommonProcessor {
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             BuildProducer<ResteasyServerConfigBuildItem> resteasyServerConfig,
             BuildProducer<ResteasyDeploymentBuildItem> resteasyDeployment,
+            BuildProducer<ResteasyNonBlockingEndpointsBuildItem> nonBlockingEndpoints,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer,
             List<AutoInjectAnnotationBuildItem> autoInjectAnnotations,
@@ -243,6 +246,11 @@ public class ResteasyServerCommonProcessor {
                             subresources.stream().map(Object::toString).collect(Collectors.toSet()))));
         }
 
+        List<ResteasyNonBlockingEndpointsBuildItem.Endpoint> endpoints = findEndpoints(index, scannedResources);
+        if (endpoints.stream().anyMatch(ResteasyNonBlockingEndpointsBuildItem.Endpoint::isNonBlocking)) {
+            nonBlockingEndpoints.produce(new ResteasyNonBlockingEndpointsBuildItem(endpoints));
+        }
+
         // generate default constructors for suitable concrete @Path classes that don't have them
         // see https://issues.jboss.org/browse/RESTEASY-2183
         generateDefaultConstructors(transformers, withoutDefaultCtor, additionalJaxRsResourceDefiningAnnotations);
@@ -420,6 +428,100 @@ public class ResteasyServerCommonProcessor {
                                 Type.create(clazz.name(), org.jboss.jandex.Type.Kind.CLASS)) }) });
     }
 
+    /**
+     * Collects the resource methods and sub-resource locators of all root resource classes, including the methods inherited
+     * from superclasses and interfaces. A resource method is non-blocking if the method, its declaring class or the resource
+     * class is annotated with {@code io.quarkus.resteasy.NonBlocking}. Sub-resource locators are never non-blocking.
+     */
+    private List<ResteasyNonBlockingEndpointsBuildItem.Endpoint> findEndpoints(IndexView index,
+            Map<DotName, ClassInfo> scannedResources) {
+        List<ResteasyNonBlockingEndpointsBuildItem.Endpoint> endpoints = new ArrayList<>();
+        for (ClassInfo resourceClass : scannedResources.values()) {
+            List<ClassInfo> hierarchy = new ArrayList<>();
+            collectHierarchy(index, resourceClass, hierarchy);
+            String classPath = null;
+            for (ClassInfo clazz : hierarchy) {
+                AnnotationInstance path = clazz.classAnnotation(ResteasyDotNames.PATH);
+                if (path != null) {
+                    classPath = path.value().asString();
+                    break;
+                }
+            }
+            if (classPath == null) {
+                continue;
+            }
+            boolean resourceNonBlocking = resourceClass.classAnnotation(NON_BLOCKING) != null;
+            Set<String> seen = new HashSet<>();
+            for (ClassInfo clazz : hierarchy) {
+                boolean classNonBlocking = resourceNonBlocking || clazz.classAnnotation(NON_BLOCKING) != null;
+                for (MethodInfo method : clazz.methods()) {
+                    String httpMethod = null;
+                    for (DotName methodAnnotation : METHOD_ANNOTATIONS) {
+                        if (getMethodAnnotation(method, methodAnnotation) != null) {
+                            httpMethod = methodAnnotation.withoutPackagePrefix();
+                            break;
+                        }
+                    }
+                    AnnotationInstance methodPath = getMethodAnnotation(method, ResteasyDotNames.PATH);
+                    if (httpMethod == null && methodPath == null) {
+                        continue;
+                    }
+                    if (!seen.add(method.name() + method.parameters())) {
+                        // Overridden method
+                        continue;
+                    }
+                    String path = joinPaths(classPath, methodPath != null ? methodPath.value().asString() : null);
+                    boolean nonBlocking = httpMethod != null
+                            && (classNonBlocking || getMethodAnnotation(method, NON_BLOCKING) != null);
+                    endpoints.add(new ResteasyNonBlockingEndpointsBuildItem.Endpoint(httpMethod, path, nonBlocking));
+                }
+            }
+        }
+        return endpoints;
+    }
+
+    private void collectHierarchy(IndexView index, ClassInfo clazz, List<ClassInfo> hierarchy) {
+        if (clazz == null || hierarchy.contains(clazz)) {
+            return;
+        }
+        hierarchy.add(clazz);
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            collectHierarchy(index, index.getClassByName(interfaceName), hierarchy);
+        }
+        if (clazz.superName() != null && !clazz.superName().equals(DotNames.OBJECT)) {
+            collectHierarchy(index, index.getClassByName(clazz.superName()), hierarchy);
+        }
+    }
+
+    private static AnnotationInstance getMethodAnnotation(MethodInfo method, DotName name) {
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.name().equals(name) && annotation.target().kind() == Kind.METHOD) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String joinPaths(String classPath, String methodPath) {
+        StringBuilder path = new StringBuilder();
+        for (String segment : new String[] { classPath, methodPath }) {
+            if (segment == null) {
+                continue;
+            }
+            String trimmed = segment.trim();
+            while (trimmed.startsWith("/")) {
+                trimmed = trimmed.substring(1);
+            }
+            while (trimmed.endsWith("/")) {
+                trimmed = trimmed.substring(0, trimmed.length() - 1);
+            }
+            if (!trimmed.isEmpty()) {
+                path.append('/').append(trimmed);
+            }
+        }
+        return path.length() == 0 ? "/" : path.toString();
+    }
+
     private Set<DotName> findSubresources(IndexView index, Map<DotName, ClassInfo> scannedResources) {
         // First identify sub-resource candidates
         Set<DotName> subresources = new HashSet<>();
@@ -566,7 +668,7 @@ public class ResteasyServerCommonProcessor {
                             };
                             return cv;
                         }
-                    }));
+                    }, "java/lang/Object"));
         }
     }
 
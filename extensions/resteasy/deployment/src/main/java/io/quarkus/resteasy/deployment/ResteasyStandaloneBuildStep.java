@@ -8,8 +8,10 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -26,13 +28,16 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.standalone.ResteasyEndpoint;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.resteasy.server.common.deployment.ResteasyNonBlockingEndpointsBuildItem;
 import io.quarkus.vertx.core.deployment.InternalWebVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -63,6 +68,7 @@ public class ResteasyStandaloneBuildStep {
             ResteasyDeploymentBuildItem deployment,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
+            Optional<ResteasyNonBlockingEndpointsBuildItem> nonBlockingEndpoints,
             HttpBuildTimeConfig httpConfig,
             BuildProducer<ResteasyStandaloneBuildItem> standalone) throws Exception {
         if (capabilities.isCapabilityPresent(Capabilities.SERVLET)) {
@@ -88,10 +94,17 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            List<ResteasyEndpoint> endpoints = null;
+            if (nonBlockingEndpoints.isPresent()) {
+                endpoints = new ArrayList<>();
+                for (ResteasyNonBlockingEndpointsBuildItem.Endpoint endpoint : nonBlockingEndpoints.get().getEndpoints()) {
+                    endpoints.add(new ResteasyEndpoint(endpoint.getHttpMethod(), endpoint.getPath(), endpoint.isNonBlocking()));
+                }
+            }
+            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths, endpoints);
 
         } else if (!knownPaths.isEmpty()) {
-            recorder.staticInit(null, rootPath, knownPaths);
+            recorder.staticInit(null, rootPath, knownPaths, null);
         }
 
         if (deployment != null || !knownPaths.isEmpty()) {
@@ -199,7 +212,8 @@ public class ResteasyStandaloneBuildStep {
             BeanContainerBuildItem beanContainer,
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
-            HttpBuildTimeConfig httpConfig) throws Exception {
+            HttpBuildTimeConfig httpConfig,
+            HttpConfiguration httpConfiguration) throws Exception {
 
         if (standalone == null) {
             return;
@@ -210,7 +224,8 @@ public class ResteasyStandaloneBuildStep {
                 || standalone.deploymentRootPath.equals("/");
         if (!isDefaultOrNullDeploymentPath) {
             // We need to register a special handler for non-default deployment path (specified as application path or resteasyConfig.path)
-            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue());
+            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
+                    httpConfiguration);
             // Exact match for resources matched to the root path
             routes.produce(new RouteBuildItem(standalone.deploymentRootPath, handler));
             String matchPath = standalone.deploymentRootPath;
@@ -227,6 +242,7 @@ public class ResteasyStandaloneBuildStep {
         Consumer<Route> ut = recorder.start(vertx.getVertx(),
                 shutdown,
                 beanContainer.getValue(),
+                httpConfiguration,
                 isVirtual, isDefaultOrNullDeploymentPath);
 
         defaultRoutes.produce(new DefaultRouteBuildItem(ut));
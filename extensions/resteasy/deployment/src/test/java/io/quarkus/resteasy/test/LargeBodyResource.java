@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+@Path("/large-body")
+public class LargeBodyResource {
+
+    @POST
+    public String count(InputStream data) throws IOException {
+        long count = 0;
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = data.read(buffer)) != -1) {
+            count += read;
+        }
+        return Long.toString(count);
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.resteasy.test;
+
+import java.util.Arrays;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class LargeBodyTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(LargeBodyResource.class));
+
+    @Test
+    public void testLargeBody() {
+        // Large enough to pause and resume the request several times
+        byte[] body = new byte[8 * 1024 * 1024];
+        Arrays.fill(body, (byte) 'a');
+        RestAssured.given().body(body).post("/large-body").then().body(Matchers.is(Integer.toString(body.length)));
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import java.util.Arrays;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.resteasy.NonBlocking;
+
+@Path("/dispatch")
+public class NonBlockingResource {
+
+    @NonBlocking
+    @GET
+    @Path("/non-blocking/{name}")
+    public String nonBlocking(@PathParam("name") String name) {
+        return name + ":" + Thread.currentThread().getName();
+    }
+
+    @NonBlocking
+    @POST
+    @Path("/non-blocking")
+    public String nonBlockingPost(String data) {
+        return data + ":" + Thread.currentThread().getName();
+    }
+
+    @NonBlocking
+    @GET
+    @Path("/non-blocking/large")
+    public String large() {
+        // larger than the write queue of the connection
+        char[] data = new char[1024 * 1024];
+        Arrays.fill(data, 'a');
+        return new String(data);
+    }
+
+    @GET
+    @Path("/blocking")
+    public String blocking() {
+        return Thread.currentThread().getName();
+    }
+
+    @GET
+    @Path("/non-blocking/blocking")
+    public String overlapping() {
+        return Thread.currentThread().getName();
+    }
+}
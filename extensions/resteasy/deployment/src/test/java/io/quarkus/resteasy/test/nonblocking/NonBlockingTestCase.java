@@ -0,0 +1,68 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasLength;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Arrays;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class)
+                    .addAsResource(new StringAsset("quarkus.http.limits.max-body-size=100K"), "application.properties"));
+
+    @Test
+    public void testNonBlockingEndpoint() {
+        RestAssured.when().get("/dispatch/non-blocking/foo").then()
+                .body(allOf(startsWith("foo:"), containsString("eventloop")));
+        RestAssured.given().body("bar").post("/dispatch/non-blocking").then()
+                .body(allOf(startsWith("bar:"), containsString("eventloop")));
+    }
+
+    @Test
+    public void testLargeBody() {
+        // Too large to be read in memory on the event loop, but within the limit
+        String body = body(80 * 1024);
+        RestAssured.given().body(body).post("/dispatch/non-blocking").then()
+                .statusCode(200)
+                .body(allOf(startsWith(body + ":"), not(containsString("eventloop"))));
+        RestAssured.given().body(body(200 * 1024)).post("/dispatch/non-blocking").then()
+                .statusCode(413);
+    }
+
+    @Test
+    public void testLargeResponse() {
+        RestAssured.when().get("/dispatch/non-blocking/large").then()
+                .statusCode(200)
+                .body(hasLength(1024 * 1024));
+    }
+
+    @Test
+    public void testBlockingEndpoint() {
+        RestAssured.when().get("/dispatch/blocking").then()
+                .body(not(containsString("eventloop")));
+        // Matches both a non-blocking and a blocking resource method
+        RestAssured.when().get("/dispatch/non-blocking/blocking").then()
+                .body(not(containsString("eventloop")));
+    }
+
+    private static String body(int length) {
+        char[] body = new char[length];
+        Arrays.fill(body, 'b');
+        return new String(body);
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.resteasy;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all resource methods of a resource class, as non-blocking.
+ * <p>
+ * Requests matching only non-blocking resource methods are dispatched directly on the Vert.x event loop instead of a worker
+ * thread. The request body is fully read before the resource method is invoked. A non-blocking resource method must never
+ * block the calling thread.
+ */
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface NonBlocking {
+
+}
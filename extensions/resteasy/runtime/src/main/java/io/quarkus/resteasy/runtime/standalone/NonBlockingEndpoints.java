@@ -0,0 +1,166 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Decides whether a request can be dispatched on the event loop. This is only the case if the request matches at least one
+ * non-blocking resource method and no blocking resource method or sub-resource locator.
+ * <p>
+ * The matchers are indexed by HTTP method and by the first segment of their path when it is a literal, so that a request is
+ * only matched against the endpoints it can possibly match.
+ */
+public class NonBlockingEndpoints {
+
+    private static final Matcher[] NO_MATCHERS = new Matcher[0];
+
+    private final Map<String, Index> byHttpMethod;
+    // The sub-resource locators, they match any HTTP method
+    private final Index otherHttpMethods;
+
+    public NonBlockingEndpoints(List<ResteasyEndpoint> endpoints) {
+        List<Matcher> locators = new ArrayList<>();
+        Map<String, List<Matcher>> resourceMethods = new HashMap<>();
+        for (ResteasyEndpoint endpoint : endpoints) {
+            Matcher matcher = new Matcher(endpoint);
+            if (endpoint.getHttpMethod() == null) {
+                locators.add(matcher);
+            } else {
+                resourceMethods.computeIfAbsent(endpoint.getHttpMethod(), k -> new ArrayList<>()).add(matcher);
+            }
+        }
+        this.byHttpMethod = new HashMap<>();
+        for (Map.Entry<String, List<Matcher>> entry : resourceMethods.entrySet()) {
+            List<Matcher> matchers = new ArrayList<>(entry.getValue());
+            matchers.addAll(locators);
+            byHttpMethod.put(entry.getKey(), new Index(matchers));
+        }
+        this.otherHttpMethods = new Index(locators);
+    }
+
+    /**
+     *
+     * @param httpMethod
+     * @param path the request path relative to the deployment root path
+     * @return {@code true} if the request should be dispatched on the event loop
+     */
+    public boolean isNonBlocking(String httpMethod, String path) {
+        Index index = byHttpMethod.get(httpMethod);
+        if (index == null) {
+            index = otherHttpMethods;
+        }
+        boolean matched = false;
+        for (Matcher matcher : index.get(firstSegment(path))) {
+            if (matcher.pattern.matcher(path).matches()) {
+                if (!matcher.nonBlocking) {
+                    return false;
+                }
+                matched = true;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     *
+     * @param path
+     * @return the first segment of the path, without the leading slash
+     */
+    static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    static Pattern compile(String template, boolean locator) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '{') {
+                // Template parameter, e.g. {id} or {id: \d+}
+                int depth = 1;
+                int end = i + 1;
+                while (end < template.length() && depth > 0) {
+                    char p = template.charAt(end);
+                    if (p == '{') {
+                        depth++;
+                    } else if (p == '}') {
+                        depth--;
+                    }
+                    end++;
+                }
+                String param = template.substring(i + 1, end - 1);
+                int colon = param.indexOf(':');
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append('(').append(colon < 0 ? "[^/]+" : param.substring(colon + 1).trim()).append(')');
+                i = end;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        regex.append(locator ? "(/.*)?" : "/?");
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * The matchers of an HTTP method by the literal first segment of their path. The matchers whose first segment contains a
+     * template parameter may match any segment, they are part of every entry.
+     */
+    private static final class Index {
+
+        private final Map<String, Matcher[]> bySegment = new HashMap<>();
+        private final Matcher[] anySegment;
+
+        Index(List<Matcher> matchers) {
+            List<Matcher> any = new ArrayList<>();
+            Map<String, List<Matcher>> literal = new HashMap<>();
+            for (Matcher matcher : matchers) {
+                if (matcher.segment == null) {
+                    any.add(matcher);
+                } else {
+                    literal.computeIfAbsent(matcher.segment, k -> new ArrayList<>()).add(matcher);
+                }
+            }
+            for (Map.Entry<String, List<Matcher>> entry : literal.entrySet()) {
+                List<Matcher> candidates = entry.getValue();
+                candidates.addAll(any);
+                bySegment.put(entry.getKey(), candidates.toArray(NO_MATCHERS));
+            }
+            this.anySegment = any.toArray(NO_MATCHERS);
+        }
+
+        Matcher[] get(String segment) {
+            Matcher[] matchers = bySegment.get(segment);
+            return matchers != null ? matchers : anySegment;
+        }
+    }
+
+    private static final class Matcher {
+
+        private final Pattern pattern;
+        private final boolean nonBlocking;
+        // The first segment of the path if it is a non-empty literal, null otherwise
+        private final String segment;
+
+        Matcher(ResteasyEndpoint endpoint) {
+            this.pattern = compile(endpoint.getPath(), endpoint.getHttpMethod() == null);
+            this.nonBlocking = endpoint.isNonBlocking();
+            String segment = firstSegment(endpoint.getPath());
+            // a locator with an empty path matches any path
+            this.segment = !segment.isEmpty() && segment.indexOf('{') < 0 ? segment : null;
+        }
+    }
+
+}
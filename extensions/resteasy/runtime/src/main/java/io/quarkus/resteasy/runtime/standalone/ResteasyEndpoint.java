@@ -0,0 +1,44 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+/**
+ * A resource method or a sub-resource locator (if {@link #getHttpMethod()} is {@code null}) discovered at build time.
+ */
+public class ResteasyEndpoint {
+
+    private String httpMethod;
+    private String path;
+    private boolean nonBlocking;
+
+    public ResteasyEndpoint() {
+    }
+
+    public ResteasyEndpoint(String httpMethod, String path, boolean nonBlocking) {
+        this.httpMethod = httpMethod;
+        this.path = path;
+        this.nonBlocking = nonBlocking;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public void setHttpMethod(String httpMethod) {
+        this.httpMethod = httpMethod;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+}
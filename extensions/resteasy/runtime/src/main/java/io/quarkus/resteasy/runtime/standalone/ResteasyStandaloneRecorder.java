@@ -3,6 +3,7 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -15,6 +16,8 @@ import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.ThreadLocalHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -78,19 +81,22 @@ public class ResteasyStandaloneRecorder {
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
     private static String contextPath;
+    private static NonBlockingEndpoints nonBlockingEndpoints;
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, List<ResteasyEndpoint> endpoints) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
         knownPaths = known;
         contextPath = path;
+        nonBlockingEndpoints = endpoints != null ? new NonBlockingEndpoints(endpoints) : null;
     }
 
     public Consumer<Route> start(RuntimeValue<Vertx> vertx,
             ShutdownContext shutdown,
             BeanContainer beanContainer,
+            HttpConfiguration httpConfiguration,
             boolean isVirtual, boolean isDefaultResourcesPath) {
 
         shutdown.addShutdownTask(new Runnable() {
@@ -147,7 +153,7 @@ public class ResteasyStandaloneRecorder {
         }
 
         if (deployment != null && isDefaultResourcesPath) {
-            handlers.add(vertxRequestHandler(vertx, beanContainer));
+            handlers.add(vertxRequestHandler(vertx, beanContainer, httpConfiguration));
         }
         return new Consumer<Route>() {
 
@@ -161,9 +167,11 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(RuntimeValue<Vertx> vertx,
-            BeanContainer beanContainer) {
+            BeanContainer beanContainer, HttpConfiguration httpConfiguration) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR);
+            Optional<MemorySize> maxBodySize = httpConfiguration.limits.maxBodySize;
+            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR,
+                    nonBlockingEndpoints, maxBodySize.isPresent() ? maxBodySize.get().asLongValue() : -1);
         }
         return null;
     }
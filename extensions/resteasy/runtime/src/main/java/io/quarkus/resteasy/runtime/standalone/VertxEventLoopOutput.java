@@ -0,0 +1,93 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * An output used for requests dispatched on the event loop. Blocking the event loop until the write queue drains is not
+ * an option, so the chunks written while the write queue is full are held back and written by the drain handler.
+ */
+public class VertxEventLoopOutput implements VertxOutput {
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+
+    protected final HttpServerRequest request;
+    protected final Deque<ByteBuf> pending = new ArrayDeque<>();
+    protected boolean drainHandlerRegistered;
+    protected boolean ending;
+    protected Throwable throwable;
+
+    public VertxEventLoopOutput(HttpServerRequest request) {
+        this.request = request;
+        request.response().exceptionHandler(event -> {
+            log.debugf(event, "IO Exception ");
+            synchronized (this) {
+                throwable = event;
+                releasePending();
+            }
+        });
+    }
+
+    Buffer createBuffer(ByteBuf data) {
+        return new VertxBufferImpl(data);
+    }
+
+    @Override
+    public synchronized void write(ByteBuf data, boolean last) throws IOException {
+        if (throwable != null) {
+            if (data != null) {
+                data.release();
+            }
+            throw new IOException(throwable);
+        }
+        HttpServerResponse response = request.response();
+        if (pending.isEmpty() && !response.writeQueueFull()) {
+            if (last && data == null) {
+                response.end();
+            } else if (last) {
+                response.end(createBuffer(data));
+            } else {
+                response.write(createBuffer(data));
+            }
+            return;
+        }
+        if (data != null) {
+            pending.add(data);
+        }
+        ending = last;
+        if (!drainHandlerRegistered) {
+            drainHandlerRegistered = true;
+            response.drainHandler(event -> writePending());
+        }
+    }
+
+    private synchronized void writePending() {
+        HttpServerResponse response = request.response();
+        while (!pending.isEmpty() && !response.writeQueueFull()) {
+            ByteBuf data = pending.poll();
+            if (ending && pending.isEmpty()) {
+                response.end(createBuffer(data));
+                return;
+            }
+            response.write(createBuffer(data));
+        }
+        if (ending && pending.isEmpty() && !response.ended()) {
+            response.end();
+        }
+    }
+
+    private void releasePending() {
+        ByteBuf data;
+        while ((data = pending.poll()) != null) {
+            data.release();
+        }
+    }
+
+}
@@ -3,12 +3,16 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 
@@ -27,12 +31,19 @@ public class VertxInputStream extends InputStream {
 
     @Override
     public int read() throws IOException {
-        byte[] b = new byte[1];
-        int read = read(b);
-        if (read == -1) {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        readIntoBuffer();
+        if (finished) {
             return -1;
         }
-        return b[0] & 0xff;
+        int read = pooled.readByte() & 0xff;
+        if (!pooled.isReadable()) {
+            pooled.release();
+            pooled = null;
+        }
+        return read;
     }
 
     @Override
@@ -80,6 +91,9 @@ public class VertxInputStream extends InputStream {
         if (finished) {
             return -1;
         }
+        if (pooled != null) {
+            return pooled.readableBytes();
+        }
         return exchange.readBytesAvailable();
     }
 
@@ -110,32 +124,50 @@ public class VertxInputStream extends InputStream {
     }
 
     public static class VertxBlockingInput implements Handler<Buffer> {
+
+        /**
+         * The request is paused once the number of queued bytes reaches this value.
+         */
+        static final int HIGH_WATERMARK = 256 * 1024;
+        /**
+         * A paused request is resumed once the number of queued bytes drops to this value.
+         */
+        static final int LOW_WATERMARK = 64 * 1024;
+
         protected final HttpServerRequest request;
-        protected Buffer input1;
-        protected Deque<Buffer> inputOverflow;
-        protected boolean waiting = false;
-        protected boolean eof = false;
+        protected final Context context;
+        // Chunks are added by the event loop and consumed by a single worker thread
+        protected final Queue<ByteBuf> queue = createQueue();
+        protected final AtomicLong queuedBytes = new AtomicLong();
+        protected final AtomicBoolean paused = new AtomicBoolean();
+        protected volatile Thread waiting;
+        protected volatile boolean eof = false;
+        protected volatile Throwable failure;
 
         public VertxBlockingInput(HttpServerRequest request) throws IOException {
             this.request = request;
+            this.context = Vertx.currentContext();
             if (!request.isEnded()) {
                 request.handler(this);
+                request.exceptionHandler(new Handler<Throwable>() {
+                    @Override
+                    public void handle(Throwable event) {
+                        failure = event;
+                        wakeUp();
+                    }
+                });
                 request.endHandler(new Handler<Void>() {
                     @Override
                     public void handle(Void event) {
-                        synchronized (request.connection()) {
-                            eof = true;
-                            if (waiting) {
-                                request.connection().notify();
-                            }
-                        }
-                        if (input1 == null) {
+                        eof = true;
+                        wakeUp();
+                        if (queue.isEmpty()) {
                             terminateRequest();
                         }
-
                     }
                 });
-                request.fetch(1);
+                // The request arrives paused, flow control is handled by the watermarks from now on
+                request.resume();
             } else {
                 eof = true;
             }
@@ -145,62 +177,98 @@ public class VertxInputStream extends InputStream {
 
         }
 
+        protected Queue<ByteBuf> createQueue() {
+            return new ConcurrentLinkedQueue<>();
+        }
+
         protected ByteBuf readBlocking() throws IOException {
-            synchronized (request.connection()) {
-                while (input1 == null && !eof) {
-                    try {
-                        if (Context.isOnEventLoopThread()) {
-                            throw new IOException("Attempting a blocking read on io thread");
-                        }
-                        waiting = true;
-                        request.connection().wait();
-                    } catch (InterruptedException e) {
-                        throw new InterruptedIOException(e.getMessage());
-                    } finally {
-                        waiting = false;
-                    }
+            ByteBuf ret = queue.poll();
+            while (ret == null) {
+                if (failure != null) {
+                    throw new IOException(failure);
                 }
-                Buffer ret = input1;
-                input1 = null;
-                if (inputOverflow != null) {
-                    input1 = inputOverflow.poll();
-                    if (input1 == null) {
-                        request.fetch(1);
+                if (eof) {
+                    // All the chunks are queued before the end handler is called
+                    ret = queue.poll();
+                    if (ret == null) {
+                        terminateRequest();
+                        return null;
                     }
-                } else {
-                    request.fetch(1);
+                    break;
                 }
-
-                if (ret == null) {
-                    terminateRequest();
+                if (Context.isOnEventLoopThread()) {
+                    throw new IOException("Attempting a blocking read on io thread");
+                }
+                // The queue is empty, so a request that is still paused would never deliver the next chunk
+                if (paused.compareAndSet(true, false)) {
+                    resume();
+                }
+                waiting = Thread.currentThread();
+                try {
+                    // Check again to make sure a wake-up is not lost
+                    ret = queue.poll();
+                    if (ret == null && !eof && failure == null) {
+                        LockSupport.park(this);
+                        if (Thread.interrupted()) {
+                            throw new InterruptedIOException();
+                        }
+                        ret = queue.poll();
+                    }
+                } finally {
+                    waiting = null;
                 }
-                return ret == null ? null : ret.getByteBuf();
             }
+            long queued = queuedBytes.addAndGet(-ret.readableBytes());
+            if (queued <= LOW_WATERMARK && paused.compareAndSet(true, false)) {
+                resume();
+            }
+            return ret;
         }
 
         @Override
         public void handle(Buffer event) {
-            synchronized (request.connection()) {
-                if (input1 == null) {
-                    input1 = event;
-                } else {
-                    if (inputOverflow == null) {
-                        inputOverflow = new ArrayDeque<>();
-                    }
-                    inputOverflow.add(event);
-                }
-                if (waiting) {
-                    request.connection().notifyAll();
+            ByteBuf data = event.getByteBuf();
+            long queued = queuedBytes.addAndGet(data.readableBytes());
+            queue.add(data);
+            if (queued >= HIGH_WATERMARK && paused.compareAndSet(false, true)) {
+                // Stop reading from the socket until the worker catches up
+                request.pause();
+                // The worker may have drained the queue before the flag was set, it did not resume the request then
+                if (queuedBytes.get() <= LOW_WATERMARK && paused.compareAndSet(true, false)) {
+                    request.resume();
                 }
             }
+            wakeUp();
         }
 
         public int readBytesAvailable() {
-            if (input1 != null) {
-                return input1.getByteBuf().readableBytes();
+            ByteBuf next = queue.peek();
+            if (next != null) {
+                return next.readableBytes();
             }
             return 0;
         }
+
+        private void resume() {
+            if (context != null) {
+                // Make sure the request is resumed after it was paused on the event loop
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        request.resume();
+                    }
+                });
+            } else {
+                request.resume();
+            }
+        }
+
+        private void wakeUp() {
+            Thread thread = waiting;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
     }
 
 }
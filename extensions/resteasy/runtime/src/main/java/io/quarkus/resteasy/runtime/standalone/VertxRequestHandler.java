@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.runtime.standalone;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -15,6 +16,9 @@ import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -22,6 +26,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -32,18 +37,36 @@ import io.vertx.ext.web.RoutingContext;
 public class VertxRequestHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
 
+    /**
+     * The largest body read in memory before a non-blocking endpoint is invoked, a larger one is streamed to the endpoint
+     * from a worker thread
+     */
+    static final long MAX_EVENT_LOOP_BODY_SIZE = 64 * 1024;
+
     protected final Vertx vertx;
     protected final RequestDispatcher dispatcher;
     protected final String rootPath;
     protected final BufferAllocator allocator;
     protected final BeanContainer beanContainer;
     protected final CurrentIdentityAssociation association;
+    protected final NonBlockingEndpoints nonBlockingEndpoints;
+    protected final long maxBodySize;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, null, -1);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator,
+            NonBlockingEndpoints nonBlockingEndpoints,
+            long maxBodySize) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -52,10 +75,17 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.allocator = allocator;
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
+        this.nonBlockingEndpoints = nonBlockingEndpoints;
+        this.maxBodySize = maxBodySize;
     }
 
     @Override
     public void handle(RoutingContext request) {
+        if (nonBlockingEndpoints != null
+                && nonBlockingEndpoints.isNonBlocking(request.request().rawMethod(), relativePath(request))
+                && handleOnEventLoop(request)) {
+            return;
+        }
         // have to create input stream here.  Cannot execute in another thread
         // otherwise request handlers may not get set up before request ends
         VertxInputStream is;
@@ -72,6 +102,76 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         });
     }
 
+    /**
+     * @return {@code false} if the body is too large to be read in memory, or of unknown length, and the request must be
+     *         dispatched on a worker thread
+     */
+    private boolean handleOnEventLoop(RoutingContext request) {
+        HttpServerRequest httpRequest = request.request();
+        if (httpRequest.isEnded()) {
+            dispatchRequestContext(request, new ByteArrayInputStream(new byte[0]), new VertxEventLoopOutput(httpRequest));
+            return true;
+        }
+        long contentLength = contentLength(httpRequest);
+        if (maxBodySize >= 0 && contentLength > maxBodySize) {
+            // The body is discarded so that the connection can be reused
+            httpRequest.handler(data -> {
+            });
+            httpRequest.resume();
+            request.response().setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code()).end();
+            return true;
+        }
+        if (contentLength < 0 || contentLength > MAX_EVENT_LOOP_BODY_SIZE) {
+            return false;
+        }
+        // A blocking read is not possible on the event loop - read the whole body first
+        Buffer body = Buffer.buffer((int) contentLength);
+        httpRequest.exceptionHandler(request::fail);
+        httpRequest.handler(data -> {
+            if (request.response().ended()) {
+                return;
+            }
+            // The content length is not enforced for every protocol
+            if (body.length() + data.length() > contentLength) {
+                request.response().setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code()).end();
+            } else {
+                body.appendBuffer(data);
+            }
+        });
+        httpRequest.endHandler(v -> {
+            if (!request.response().ended()) {
+                dispatchRequestContext(request, new ByteBufInputStream(body.getByteBuf()),
+                        new VertxEventLoopOutput(httpRequest));
+            }
+        });
+        // The request arrives paused
+        httpRequest.resume();
+        return true;
+    }
+
+    /**
+     * @return the length of the body, or -1 if it is unknown
+     */
+    private static long contentLength(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String relativePath(RoutingContext request) {
+        String path = request.normalisedPath();
+        if (rootPath.length() > 1 && path.startsWith(rootPath)) {
+            path = path.substring(rootPath.endsWith("/") ? rootPath.length() - 1 : rootPath.length());
+        }
+        return path.isEmpty() ? "/" : path;
+    }
+
     private void dispatchRequestContext(RoutingContext request, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class NonBlockingEndpointsTest {
+
+    @Test
+    void matchByHttpMethodAndPath() {
+        NonBlockingEndpoints endpoints = new NonBlockingEndpoints(Arrays.asList(
+                new ResteasyEndpoint("GET", "/hello", true),
+                new ResteasyEndpoint("POST", "/hello", false),
+                new ResteasyEndpoint("GET", "/hello/{name}", true),
+                new ResteasyEndpoint("GET", "/hello/blocking", false),
+                new ResteasyEndpoint("GET", "/{any}/items", true)));
+        assertTrue(endpoints.isNonBlocking("GET", "/hello"));
+        assertTrue(endpoints.isNonBlocking("GET", "/hello/"));
+        assertFalse(endpoints.isNonBlocking("POST", "/hello"));
+        assertFalse(endpoints.isNonBlocking("PUT", "/hello"));
+        assertTrue(endpoints.isNonBlocking("GET", "/hello/world"));
+        // a blocking endpoint matching the same request wins
+        assertFalse(endpoints.isNonBlocking("GET", "/hello/blocking"));
+        assertFalse(endpoints.isNonBlocking("GET", "/hello/world/more"));
+        assertFalse(endpoints.isNonBlocking("GET", "/other"));
+        // an endpoint with a template first segment matches any first segment
+        assertTrue(endpoints.isNonBlocking("GET", "/other/items"));
+        assertTrue(endpoints.isNonBlocking("GET", "/hello/items"));
+    }
+
+    @Test
+    void locatorsMatchAnyHttpMethod() {
+        NonBlockingEndpoints endpoints = new NonBlockingEndpoints(Arrays.asList(
+                new ResteasyEndpoint("GET", "/sub/ping", true),
+                new ResteasyEndpoint(null, "/sub", false),
+                new ResteasyEndpoint("GET", "/ping", true)));
+        assertFalse(endpoints.isNonBlocking("GET", "/sub/ping"));
+        assertFalse(endpoints.isNonBlocking("DELETE", "/sub/ping"));
+        assertTrue(endpoints.isNonBlocking("GET", "/ping"));
+    }
+
+    @Test
+    void rootLocatorMatchesAnyPath() {
+        NonBlockingEndpoints endpoints = new NonBlockingEndpoints(Arrays.asList(
+                new ResteasyEndpoint("GET", "/ping", true),
+                new ResteasyEndpoint(null, "", false)));
+        assertFalse(endpoints.isNonBlocking("GET", "/ping"));
+    }
+
+    @Test
+    void firstSegment() {
+        assertEquals("", NonBlockingEndpoints.firstSegment("/"));
+        assertEquals("", NonBlockingEndpoints.firstSegment(""));
+        assertEquals("a", NonBlockingEndpoints.firstSegment("/a"));
+        assertEquals("a", NonBlockingEndpoints.firstSegment("a/b"));
+        assertEquals("a", NonBlockingEndpoints.firstSegment("/a/b"));
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.resteasy.runtime.standalone.VertxInputStream.VertxBlockingInput;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+
+class VertxBlockingInputTest {
+
+    @Test
+    void resumeWhenTheQueueIsDrainedBeforeThePause() throws Exception {
+        BlockingQueue<String> calls = new LinkedBlockingQueue<>();
+        VertxBlockingInput input = new VertxBlockingInput(request(calls)) {
+            @Override
+            protected Queue<ByteBuf> createQueue() {
+                return new ConcurrentLinkedQueue<ByteBuf>() {
+                    @Override
+                    public boolean add(ByteBuf data) {
+                        boolean added = super.add(data);
+                        // the worker drains the queue right after the chunk is added, before the request is paused
+                        try {
+                            readBlocking().release();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return added;
+                    }
+                };
+            }
+        };
+        // the request arrives paused and is resumed once the handlers are installed
+        assertEquals("resume", calls.poll());
+
+        input.handle(Buffer.buffer(new byte[VertxBlockingInput.HIGH_WATERMARK]));
+
+        assertEquals("pause", calls.poll());
+        assertEquals("resume", calls.poll());
+        assertNull(calls.poll());
+        assertFalse(input.paused.get());
+    }
+
+    @Test
+    void resumeBeforeWaitingForTheNextChunk() throws Exception {
+        BlockingQueue<String> calls = new LinkedBlockingQueue<>();
+        VertxBlockingInput input = new VertxBlockingInput(request(calls));
+        assertEquals("resume", calls.poll());
+        // the request is still paused although the worker drained the queue
+        input.paused.set(true);
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Future<ByteBuf> read = worker.submit(input::readBlocking);
+
+            // no chunk can arrive until the worker resumes the request
+            assertEquals("resume", calls.poll(10, TimeUnit.SECONDS));
+            input.handle(Buffer.buffer("chunk"));
+
+            ByteBuf chunk = read.get(10, TimeUnit.SECONDS);
+            assertEquals("chunk", chunk.toString(StandardCharsets.UTF_8));
+            chunk.release();
+            assertFalse(input.paused.get());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * @return a request which records the calls to pause and resume
+     */
+    private static HttpServerRequest request(BlockingQueue<String> calls) {
+        return (HttpServerRequest) Proxy.newProxyInstance(VertxBlockingInputTest.class.getClassLoader(),
+                new Class<?>[] { HttpServerRequest.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("pause") || method.getName().equals("resume")) {
+                        calls.add(method.getName());
+                    }
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    if (method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    return method.getReturnType().isInstance(proxy) ? proxy : null;
+                });
+    }
+}
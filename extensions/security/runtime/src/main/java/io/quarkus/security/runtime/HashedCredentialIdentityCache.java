@@ -0,0 +1,122 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * A bounded {@link IdentityCache} for username/password authentication.
+ * <p>
+ * Entries are keyed on a HMAC-SHA256 of the username and password, computed with a random key generated when the cache is
+ * created, so the cache never holds the password itself. An entry expires once its time to live has elapsed, which bounds
+ * how long a changed or revoked password is still accepted. When the cache is full the oldest entry is evicted.
+ */
+public class HashedCredentialIdentityCache implements IdentityCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Map<String, Entry> entries;
+    private final long timeToLive;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac = new ThreadLocal<Mac>() {
+        @Override
+        protected Mac initialValue() {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to create the identity cache key digest", e);
+            }
+        }
+    };
+
+    public HashedCredentialIdentityCache(int maxSize, Duration timeToLive) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The identity cache size must be positive: " + maxSize);
+        }
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.timeToLive = timeToLive.toNanos();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    @Override
+    public SecurityIdentity get(AuthenticationRequest request) {
+        String digest = digest(request);
+        if (digest == null) {
+            return null;
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(digest);
+            if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+                entries.remove(digest);
+                return null;
+            }
+        }
+        return entry == null ? null : entry.identity;
+    }
+
+    @Override
+    public void put(AuthenticationRequest request, SecurityIdentity identity) {
+        if (identity.isAnonymous()) {
+            return;
+        }
+        String digest = digest(request);
+        if (digest == null) {
+            return;
+        }
+        Entry entry = new Entry(identity, System.nanoTime() + timeToLive);
+        synchronized (entries) {
+            entries.put(digest, entry);
+        }
+    }
+
+    private String digest(AuthenticationRequest request) {
+        if (!(request instanceof UsernamePasswordAuthenticationRequest)) {
+            return null;
+        }
+        UsernamePasswordAuthenticationRequest usernamePassword = (UsernamePasswordAuthenticationRequest) request;
+        Mac mac = this.mac.get();
+        mac.update(usernamePassword.getUsername().getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(usernamePassword.getPassword().getPassword()));
+        mac.update(password);
+        if (password.hasArray()) {
+            Arrays.fill(password.array(), (byte) 0);
+        }
+        return Base64.getEncoder().encodeToString(mac.doFinal());
+    }
+
+    private static final class Entry {
+
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
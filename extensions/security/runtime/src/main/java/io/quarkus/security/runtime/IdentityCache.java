@@ -0,0 +1,27 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+
+/**
+ * A cache of the identities established by the identity providers. The {@link QuarkusIdentityProviderManagerImpl}
+ * consults it before invoking the providers, so a cached identity does not require any blocking work.
+ * <p>
+ * An application scoped bean implementing this interface replaces the cache configured by the security extensions.
+ */
+public interface IdentityCache {
+
+    /**
+     * @param request the authentication request
+     * @return the identity previously established for an equivalent request, or {@code null}
+     */
+    SecurityIdentity get(AuthenticationRequest request);
+
+    /**
+     * Caches the identity established for the given request, before it is augmented.
+     *
+     * @param request the authentication request
+     * @param identity the identity returned by the identity provider
+     */
+    void put(AuthenticationRequest request, SecurityIdentity identity);
+}
@@ -1,5 +1,6 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -25,6 +26,23 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    @Inject
+    Instance<IdentityCache> identityCaches;
+
+    private volatile int identityCacheMaxSize;
+    private volatile Duration identityCacheTimeToLive;
+
+    /**
+     * Caches the identities verified by the username/password identity providers.
+     *
+     * @param maxSize the maximum number of cached identities
+     * @param timeToLive how long an identity stays in the cache
+     */
+    public void enableIdentityCache(int maxSize, Duration timeToLive) {
+        this.identityCacheMaxSize = maxSize;
+        this.identityCacheTimeToLive = timeToLive;
+    }
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm() {
@@ -42,6 +60,11 @@ public class IdentityProviderManagerCreator {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmenter(i);
         }
+        if (identityCaches.isResolvable()) {
+            builder.setIdentityCache(identityCaches.get());
+        } else if (identityCacheTimeToLive != null) {
+            builder.setIdentityCache(new HashedCredentialIdentityCache(identityCacheMaxSize, identityCacheTimeToLive));
+        }
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
@@ -32,6 +32,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final IdentityCache identityCache;
 
     private final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -67,6 +68,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         this.providers = builder.providers;
         this.augmenters = builder.augmenters;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache;
     }
 
     /**
@@ -86,6 +88,11 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             return cf;
         }
+        SecurityIdentity cached = getCachedIdentity(request);
+        if (cached != null) {
+            // No provider is invoked, so there is no need to dispatch to the blocking executor
+            return handleIdentityFromProvider(0, cached, blockingRequestContext);
+        }
         return handleProvider(0, (List) providers, request, blockingRequestContext);
     }
 
@@ -104,6 +111,10 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
+        SecurityIdentity cached = getCachedIdentity(request);
+        if (cached != null) {
+            return handleIdentityFromProvider(0, cached, blockingRequestContext).toCompletableFuture().join();
+        }
         return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).toCompletableFuture()
                 .join();
     }
@@ -123,6 +134,9 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                     @Override
                     public CompletionStage<SecurityIdentity> apply(SecurityIdentity identity) {
                         if (identity != null) {
+                            if (identityCache != null) {
+                                identityCache.put(request, identity);
+                            }
                             return CompletableFuture.completedFuture(identity);
                         }
                         return handleProvider(pos + 1, providers, request, context);
@@ -136,6 +150,17 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         });
     }
 
+    private SecurityIdentity getCachedIdentity(AuthenticationRequest request) {
+        if (identityCache == null) {
+            return null;
+        }
+        SecurityIdentity identity = identityCache.get(request);
+        if (identity != null) {
+            log.debugf("Using the cached identity %s", identity.getPrincipal());
+        }
+        return identity;
+    }
+
     private CompletionStage<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdentity identity,
             AuthenticationRequestContext context) {
         if (pos == augmenters.size()) {
@@ -170,6 +195,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmenters = new ArrayList<>();
         private Executor blockingExecutor;
+        private IdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -206,6 +232,15 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return this;
         }
 
+        /**
+         * @param identityCache The cache consulted before the identity providers, may be {@code null}
+         * @return this builder
+         */
+        public Builder setIdentityCache(IdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
@@ -49,6 +49,7 @@ import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
@@ -88,6 +89,12 @@ public class SmallRyeMetricsProcessor {
          */
         @ConfigItem(defaultValue = "/metrics")
         String path;
+
+        /**
+         * Whether the metrics are gzip compressed for clients that accept it.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean compression;
     }
 
     SmallRyeMetricsConfig metrics;
@@ -99,8 +106,10 @@ public class SmallRyeMetricsProcessor {
             HttpRootPathBuildItem httpRoot) {
         Function<Router, Route> route = recorder.route(metrics.path + (metrics.path.endsWith("/") ? "*" : "/*"));
         Function<Router, Route> slash = recorder.route(metrics.path);
-        routes.produce(new RouteBuildItem(route, recorder.handler(httpRoot.adjustPath(metrics.path)), HandlerType.BLOCKING));
-        routes.produce(new RouteBuildItem(slash, recorder.handler(httpRoot.adjustPath(metrics.path)), HandlerType.BLOCKING));
+        routes.produce(new RouteBuildItem(route, recorder.handler(httpRoot.adjustPath(metrics.path), metrics.compression),
+                HandlerType.BLOCKING));
+        routes.produce(new RouteBuildItem(slash, recorder.handler(httpRoot.adjustPath(metrics.path), metrics.compression),
+                HandlerType.BLOCKING));
     }
 
     @BuildStep
@@ -202,7 +211,7 @@ public class SmallRyeMetricsProcessor {
         return new AutoInjectAnnotationBuildItem(SmallRyeMetricsDotNames.METRIC);
     }
 
-    @BuildStep
+    @BuildStep(providesCapabilities = Capabilities.METRICS)
     @Record(STATIC_INIT)
     public void build(BeanContainerBuildItem beanContainerBuildItem,
             SmallRyeMetricsRecorder metrics,
@@ -0,0 +1,77 @@
+package io.quarkus.smallrye.metrics.test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class MetricsCompressionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("quarkus.smallrye-metrics.compression=true\n"),
+                            "application.properties"));
+
+    // the bodies are checked as sent, so REST Assured neither asks for nor decodes a compressed response
+    private static final RestAssuredConfig RAW = RestAssured.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    @Test
+    public void testGzip() throws IOException {
+        byte[] body = RestAssured.given().config(RAW)
+                .header("Accept-Encoding", "deflate, GZIP")
+                .accept("text/plain")
+                .when().get("/metrics")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract().asByteArray();
+        assertTrue(gunzip(body).contains("base_thread_count "));
+    }
+
+    @Test
+    public void testIdentity() {
+        RestAssured.given().config(RAW)
+                .accept("text/plain")
+                .when().get("/metrics")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("base_thread_count "));
+        RestAssured.given().config(RAW)
+                .header("Accept-Encoding", "identity")
+                .accept("text/plain")
+                .when().get("/metrics")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("base_thread_count "));
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
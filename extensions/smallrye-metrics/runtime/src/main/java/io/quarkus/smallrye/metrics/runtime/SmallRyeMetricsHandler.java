@@ -1,12 +1,25 @@
 package io.quarkus.smallrye.metrics.runtime;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.enterprise.inject.spi.CDI;
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.smallrye.metrics.MetricsRequestHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -18,30 +31,90 @@ public class SmallRyeMetricsHandler implements Handler<RoutingContext> {
 
     private String metricsPath;
 
+    private boolean compression;
+
+    /**
+     * The handler is application scoped, so the client proxy can be looked up once and reused for every scrape.
+     */
+    private volatile MetricsRequestHandler internalHandler;
+
     private static final Logger LOGGER = Logger.getLogger(SmallRyeMetricsHandler.class.getName());
 
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
     public void setMetricsPath(String metricsPath) {
         this.metricsPath = metricsPath;
     }
 
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
     @Override
     public void handle(RoutingContext routingContext) {
-        MetricsRequestHandler internalHandler = CDI.current().select(MetricsRequestHandler.class).get();
+        MetricsRequestHandler internalHandler = getInternalHandler();
         HttpServerResponse response = routingContext.response();
         HttpServerRequest request = routingContext.request();
         Stream<String> acceptHeaders = request.headers().getAll("Accept").stream();
 
         try {
             internalHandler.handleRequest(request.path(), metricsPath, request.rawMethod(), acceptHeaders,
-                    (status, message, headers) -> {
-                        response.setStatusCode(status);
-                        headers.forEach(response::putHeader);
-                        response.end(Buffer.buffer(message));
-                    });
+                    (status, message, headers) -> respond(request, response, status, message, headers));
         } catch (IOException e) {
             response.setStatusCode(503);
             response.end();
             LOGGER.error(e);
         }
     }
+
+    private MetricsRequestHandler getInternalHandler() {
+        MetricsRequestHandler handler = internalHandler;
+        if (handler == null) {
+            handler = internalHandler = CDI.current().select(MetricsRequestHandler.class).get();
+        }
+        return handler;
+    }
+
+    private void respond(HttpServerRequest request, HttpServerResponse response, int status, String message,
+            Map<String, String> headers) throws IOException {
+        response.setStatusCode(status);
+        headers.forEach(response::putHeader);
+        if (message == null || message.isEmpty()) {
+            response.end();
+            return;
+        }
+        // the exposition can be several megabytes, so it is encoded straight into a pooled direct buffer that is
+        // released once it has been written, instead of into a new byte array for every scrape. The exporter of the
+        // library still builds the whole exposition as one string, so it is not streamed to the response
+        ByteBuf buf;
+        if (compression && acceptsGzip(request)) {
+            buf = ALLOCATOR.directBuffer(message.length() / 4);
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new ByteBufOutputStream(buf)),
+                    StandardCharsets.UTF_8)) {
+                writer.write(message);
+            } catch (IOException | RuntimeException e) {
+                buf.release();
+                throw e;
+            }
+            response.putHeader(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+        } else {
+            buf = ALLOCATOR.directBuffer(ByteBufUtil.utf8MaxBytes(message));
+            ByteBufUtil.writeUtf8(buf, message);
+        }
+        try {
+            response.end(Buffer.buffer(buf), result -> buf.release());
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServerRequest request) {
+        for (String value : request.headers().getAll(HttpHeaderNames.ACCEPT_ENCODING)) {
+            if (value.toLowerCase(Locale.ROOT).contains("gzip")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
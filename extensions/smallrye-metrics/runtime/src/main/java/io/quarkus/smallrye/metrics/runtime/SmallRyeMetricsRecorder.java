@@ -82,9 +82,10 @@ public class SmallRyeMetricsRecorder {
         };
     }
 
-    public SmallRyeMetricsHandler handler(String metricsPath) {
+    public SmallRyeMetricsHandler handler(String metricsPath, boolean compression) {
         SmallRyeMetricsHandler handler = new SmallRyeMetricsHandler();
         handler.setMetricsPath(metricsPath);
+        handler.setCompression(compression);
         return handler;
     }
 
@@ -29,6 +29,7 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.index.IndexingUtil;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.hibernate.orm.deployment.HqlQueryBuildItem;
 import io.quarkus.hibernate.orm.deployment.IgnorableNonIndexedClasses;
 import io.quarkus.spring.data.deployment.generate.SpringDataRepositoryCreator;
 
@@ -50,14 +51,16 @@ public class SpringDataJPAProcessor {
     @BuildStep
     void build(CombinedIndexBuildItem index,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
-            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<HqlQueryBuildItem> hqlQueries) {
 
         IndexView indexIndex = index.getIndex();
         List<ClassInfo> interfacesExtendingCrudRepository = getAllInterfacesExtending(DotNames.SUPPORTED_REPOSITORIES,
                 indexIndex);
 
         removeNoRepositoryBeanClasses(interfacesExtendingCrudRepository);
-        implementCrudRepositories(generatedBeans, additionalBeans, interfacesExtendingCrudRepository, indexIndex);
+        implementCrudRepositories(generatedBeans, additionalBeans, hqlQueries, interfacesExtendingCrudRepository,
+                indexIndex);
     }
 
     private void removeNoRepositoryBeanClasses(List<ClassInfo> interfacesExtendingCrudRepository) {
@@ -95,7 +98,7 @@ public class SpringDataJPAProcessor {
 
     // generate a concrete class that will be used by Arc to resolve injection points
     private void implementCrudRepositories(BuildProducer<GeneratedBeanBuildItem> generatedBeans,
-            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans, BuildProducer<HqlQueryBuildItem> hqlQueries,
             List<ClassInfo> crudRepositoriesToImplement, IndexView index) {
 
         ClassOutput classOutput = new ClassOutput() {
@@ -118,7 +121,7 @@ public class SpringDataJPAProcessor {
         SpringDataRepositoryCreator repositoryCreator = new SpringDataRepositoryCreator(classOutput, compositeIndex, (n) -> {
             // the implementation of fragments don't need to be beans themselves
             additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(n));
-        });
+        }, (q) -> hqlQueries.produce(new HqlQueryBuildItem(q)));
 
         for (ClassInfo crudRepositoryToImplement : crudRepositoriesToImplement) {
             repositoryCreator.implementCrudRepository(crudRepositoryToImplement);
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.transaction.Transactional;
 
@@ -30,6 +31,12 @@ public class CustomQueryMethodsAdder extends AbstractMethodsAdder {
 
     private static final String QUERY_VALUE_FIELD = "value";
 
+    private final Consumer<String> staticQueryCallback;
+
+    public CustomQueryMethodsAdder(Consumer<String> staticQueryCallback) {
+        this.staticQueryCallback = staticQueryCallback;
+    }
+
     public void add(ClassCreator classCreator, FieldDescriptor entityClassFieldDescriptor, ClassInfo repositoryClassInfo,
             ClassInfo entityClassInfo) {
         for (MethodInfo method : repositoryClassInfo.methods()) {
@@ -96,6 +103,9 @@ public class CustomQueryMethodsAdder extends AbstractMethodsAdder {
                         (int) annotation.target().asMethodParameter().position());
             }
 
+            String entityName = entityClassInfo.name().toString();
+            int paramCount = useNamedParams ? namedParameterToIndex.size() : queryParameterIndexes.size();
+
             boolean isModifying = (method.annotation(DotNames.SPRING_DATA_MODIFYING) != null);
             if (isModifying && (sortParameterIndex != null || pageableParameterIndex != null)) {
                 throw new IllegalArgumentException(
@@ -121,6 +131,7 @@ public class CustomQueryMethodsAdder extends AbstractMethodsAdder {
 
                         // we need to strip 'delete' or else JpaOperations.delete will generate the wrong query
                         String deleteQueryString = queryString.substring("delete".length());
+                        staticQueryCallback.accept(JpaOperations.createDeleteQuery(entityName, deleteQueryString, paramCount));
                         ResultHandle deleteCount;
                         if (useNamedParams) {
                             ResultHandle parameters = generateParametersObject(namedParameterToIndex, methodCreator);
@@ -156,6 +167,8 @@ public class CustomQueryMethodsAdder extends AbstractMethodsAdder {
                                             + " is meant to be an update query and can therefore only have a void or integer return type");
                         }
 
+                        staticQueryCallback.accept(queryString);
+
                         ResultHandle updateCount;
                         if (useNamedParams) {
                             ResultHandle parameters = generateParametersObject(namedParameterToIndex, methodCreator);
@@ -190,6 +203,9 @@ public class CustomQueryMethodsAdder extends AbstractMethodsAdder {
                                         "a delete or update query");
                     }
                 } else {
+                    if (sortParameterIndex == null) {
+                        staticQueryCallback.accept(JpaOperations.createFindQuery(entityName, queryString, paramCount));
+                    }
                     ResultHandle panacheQuery;
                     if (useNamedParams) {
                         ResultHandle parameters = generateParametersObject(namedParameterToIndex, methodCreator);
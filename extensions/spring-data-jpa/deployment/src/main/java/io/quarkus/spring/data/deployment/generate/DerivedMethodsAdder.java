@@ -2,6 +2,7 @@ package io.quarkus.spring.data.deployment.generate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.transaction.Transactional;
 
@@ -26,14 +27,17 @@ import io.quarkus.spring.data.runtime.TypesConverter;
 public class DerivedMethodsAdder extends AbstractMethodsAdder {
 
     private final IndexView index;
+    private final Consumer<String> staticQueryCallback;
 
-    public DerivedMethodsAdder(IndexView index) {
+    public DerivedMethodsAdder(IndexView index, Consumer<String> staticQueryCallback) {
         this.index = index;
+        this.staticQueryCallback = staticQueryCallback;
     }
 
     public void add(ClassCreator classCreator, FieldDescriptor entityClassFieldDescriptor,
             String generatedClassName, ClassInfo repositoryClassInfo, ClassInfo entityClassInfo) {
         MethodNameParser methodNameParser = new MethodNameParser(entityClassInfo, index);
+        String entityName = entityClassInfo.name().toString();
         for (MethodInfo method : repositoryClassInfo.methods()) {
             if (method.annotation(DotNames.SPRING_DATA_QUERY) != null) { // handled by CustomQueryMethodsAdder
                 continue;
@@ -108,6 +112,10 @@ public class DerivedMethodsAdder extends AbstractMethodsAdder {
                     } else if (parseResult.getSort() != null) {
                         finalQuery += JpaOperations.toOrderBy(parseResult.getSort());
                     }
+                    if (sortParameterIndex == null) {
+                        staticQueryCallback.accept(
+                                JpaOperations.createFindQuery(entityName, finalQuery, parseResult.getParamCount()));
+                    }
 
                     // call JpaOperations.find()
                     ResultHandle panacheQuery = methodCreator.invokeStaticMethod(
@@ -132,6 +140,9 @@ public class DerivedMethodsAdder extends AbstractMethodsAdder {
                                         "support Pageable and Sort method parameters");
                     }
 
+                    staticQueryCallback.accept(
+                            JpaOperations.createCountQuery(entityName, parseResult.getQuery(), parseResult.getParamCount()));
+
                     // call JpaOperations.count()
                     ResultHandle count = methodCreator.invokeStaticMethod(
                             MethodDescriptor.ofMethod(JpaOperations.class, "count", long.class,
@@ -154,6 +165,9 @@ public class DerivedMethodsAdder extends AbstractMethodsAdder {
                                         "support Pageable and Sort method parameters");
                     }
 
+                    staticQueryCallback.accept(
+                            JpaOperations.createCountQuery(entityName, parseResult.getQuery(), parseResult.getParamCount()));
+
                     // call JpaOperations.exists()
                     ResultHandle exists = methodCreator.invokeStaticMethod(
                             MethodDescriptor.ofMethod(JpaOperations.class, "exists", boolean.class,
@@ -178,6 +192,9 @@ public class DerivedMethodsAdder extends AbstractMethodsAdder {
                     }
                     methodCreator.addAnnotation(Transactional.class);
 
+                    staticQueryCallback.accept(
+                            JpaOperations.createDeleteQuery(entityName, parseResult.getQuery(), parseResult.getParamCount()));
+
                     // call JpaOperations.delete()
                     ResultHandle delete = methodCreator.invokeStaticMethod(
                             MethodDescriptor.ofMethod(JpaOperations.class, "delete", long.class,
@@ -38,13 +38,13 @@ public class SpringDataRepositoryCreator {
     private final CustomQueryMethodsAdder customQueryMethodsAdder;
 
     public SpringDataRepositoryCreator(ClassOutput classOutput, IndexView index,
-            Consumer<String> fragmentImplClassResolvedCallback) {
+            Consumer<String> fragmentImplClassResolvedCallback, Consumer<String> staticQueryCallback) {
         this.classOutput = classOutput;
         this.index = index;
         this.fragmentMethodsAdder = new FragmentMethodsAdder(fragmentImplClassResolvedCallback, index);
         this.stockMethodsAdder = new StockMethodsAdder(index);
-        this.derivedMethodsAdder = new DerivedMethodsAdder(index);
-        this.customQueryMethodsAdder = new CustomQueryMethodsAdder();
+        this.derivedMethodsAdder = new DerivedMethodsAdder(index, staticQueryCallback);
+        this.customQueryMethodsAdder = new CustomQueryMethodsAdder(staticQueryCallback);
     }
 
     public void implementCrudRepository(ClassInfo repositoryToImplement) {
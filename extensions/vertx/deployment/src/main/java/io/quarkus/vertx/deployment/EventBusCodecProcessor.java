@@ -3,12 +3,16 @@ package io.quarkus.vertx.deployment;
 import static io.quarkus.vertx.deployment.VertxConstants.AXLE_MESSAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.COMPLETION_STAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
 import static io.quarkus.vertx.deployment.VertxConstants.LOCAL_EVENT_BUS_CODEC;
 import static io.quarkus.vertx.deployment.VertxConstants.MESSAGE;
 import static io.quarkus.vertx.deployment.VertxConstants.RX_MESSAGE;
 
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +22,7 @@ import javax.inject.Inject;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -28,6 +33,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
@@ -43,11 +49,12 @@ public class EventBusCodecProcessor {
     @BuildStep
     public void registerCodecs(
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
+            CombinedIndexBuildItem combinedIndex,
             BuildProducer<MessageCodecBuildItem> messageCodecs) {
 
         final IndexView index = beanArchiveIndexBuildItem.getIndex();
         Collection<AnnotationInstance> consumeEventAnnotationInstances = index.getAnnotations(CONSUME_EVENT);
-        Map<Type, DotName> codecByTypes = new HashMap<>();
+        Map<DotName, DotName> codecByTypes = new HashMap<>();
         for (AnnotationInstance consumeEventAnnotationInstance : consumeEventAnnotationInstances) {
             AnnotationTarget typeTarget = consumeEventAnnotationInstance.target();
             if (typeTarget.kind() != AnnotationTarget.Kind.METHOD) {
@@ -58,13 +65,21 @@ public class EventBusCodecProcessor {
             Type codecTargetFromReturnType = extractPayloadTypeFromReturn(method);
             Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
 
+            // A batched consumer receives a list of message bodies, the codec applies to the elements
+            AnnotationValue batchSize = consumeEventAnnotationInstance.value("batchSize");
+            if (batchSize != null && batchSize.asInt() > 0 && codecTargetFromParameter != null
+                    && codecTargetFromParameter.kind() == Type.Kind.PARAMETERIZED_TYPE
+                    && codecTargetFromParameter.name().equals(LIST)) {
+                codecTargetFromParameter = codecTargetFromParameter.asParameterizedType().arguments().get(0);
+            }
+
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
             if (codec != null && codec.asClass().kind() == Type.Kind.CLASS) {
                 if (codecTargetFromParameter == null) {
                     throw new IllegalStateException("Invalid `codec` argument in @ConsumeEvent - no parameter");
                 }
-                codecByTypes.put(codecTargetFromParameter, codec.asClass().asClassType().name());
+                codecByTypes.put(codecTargetFromParameter.name(), codec.asClass().asClassType().name());
             } else if (codecTargetFromParameter != null) {
                 // Codec is not set, check if we have a built-in codec
                 if (!hasBuiltInCodec(codecTargetFromParameter)) {
@@ -75,29 +90,46 @@ public class EventBusCodecProcessor {
                                 "The generic message codec can only be used for local delivery,"
                                         + ", implement your own event bus codec for " + codecTargetFromParameter.name()
                                                 .toString());
-                    } else if (!codecByTypes.containsKey(codecTargetFromParameter)) {
+                    } else if (!codecByTypes.containsKey(codecTargetFromParameter.name())) {
                         LOGGER.infof("Local Message Codec registered for type %s",
                                 codecTargetFromParameter.toString());
-                        codecByTypes.put(codecTargetFromParameter, LOCAL_EVENT_BUS_CODEC);
+                        codecByTypes.put(codecTargetFromParameter.name(), LOCAL_EVENT_BUS_CODEC);
                     }
                 }
             }
 
             if (codecTargetFromReturnType != null && !hasBuiltInCodec(codecTargetFromReturnType)
-                    && !codecByTypes.containsKey(codecTargetFromReturnType)) {
+                    && !codecByTypes.containsKey(codecTargetFromReturnType.name())) {
 
                 LOGGER.infof("Local Message Codec registered for type %s", codecTargetFromReturnType.toString());
-                codecByTypes.put(codecTargetFromReturnType, LOCAL_EVENT_BUS_CODEC);
+                codecByTypes.put(codecTargetFromReturnType.name(), LOCAL_EVENT_BUS_CODEC);
+            }
+        }
+
+        // The event bus selects the default codec using the exact class of the body, so the local codec must also be
+        // registered for the concrete subtypes of the declared types
+        Map<DotName, DotName> codecBySubtypes = new HashMap<>();
+        for (Map.Entry<DotName, DotName> entry : codecByTypes.entrySet()) {
+            if (entry.getValue().equals(LOCAL_EVENT_BUS_CODEC)) {
+                for (ClassInfo subtype : getConcreteSubtypes(combinedIndex.getIndex(), entry.getKey())) {
+                    if (!codecByTypes.containsKey(subtype.name())
+                            && codecBySubtypes.putIfAbsent(subtype.name(), LOCAL_EVENT_BUS_CODEC) == null) {
+                        LOGGER.debugf("Local Message Codec registered for subtype %s of %s", subtype.name(),
+                                entry.getKey());
+                    }
+                }
             }
         }
+        codecByTypes.putAll(codecBySubtypes);
 
         // Produce the build items
-        for (Map.Entry<Type, DotName> entry : codecByTypes.entrySet()) {
+        for (Map.Entry<DotName, DotName> entry : codecByTypes.entrySet()) {
             messageCodecs.produce(new MessageCodecBuildItem(entry.getKey().toString(), entry.getValue().toString()));
         }
 
-        // Register codec classes for reflection.
-        codecByTypes.values().stream().map(DotName::toString).distinct()
+        // Register codec classes for reflection, the local codec is instantiated directly
+        codecByTypes.values().stream().filter(name -> !name.equals(LOCAL_EVENT_BUS_CODEC)).map(DotName::toString)
+                .distinct()
                 .forEach(name -> reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, name)));
     }
 
@@ -158,6 +190,23 @@ public class EventBusCodecProcessor {
         return null;
     }
 
+    private static Collection<ClassInfo> getConcreteSubtypes(IndexView index, DotName name) {
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null) {
+            return Collections.emptyList();
+        }
+        Collection<ClassInfo> subtypes = Modifier.isInterface(classInfo.flags())
+                ? index.getAllKnownImplementors(name)
+                : index.getAllKnownSubclasses(name);
+        List<ClassInfo> concreteSubtypes = new ArrayList<>();
+        for (ClassInfo subtype : subtypes) {
+            if (!Modifier.isInterface(subtype.flags()) && !Modifier.isAbstract(subtype.flags())) {
+                concreteSubtypes.add(subtype);
+            }
+        }
+        return concreteSubtypes;
+    }
+
     /**
      * Checks whether the given type has a built-in codec.
      *
@@ -2,7 +2,7 @@ package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.*;
 
-import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -20,10 +20,8 @@ import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.deployment.util.HashUtil;
 import io.quarkus.gizmo.*;
+import io.quarkus.vertx.runtime.BatchEventConsumerInvoker;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
-import io.vertx.core.Future;
-import io.vertx.core.Handler;
-import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.Message;
 
 class EventBusConsumer {
@@ -32,16 +30,6 @@ class EventBusConsumer {
             .ofMethod(Arc.class, "container", ArcContainer.class);
     private static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
             Object.class);
-    private static final MethodDescriptor ARC_CONTAINER_INSTANCE_FOR_TYPE = MethodDescriptor
-            .ofMethod(ArcContainer.class,
-                    "instance", InstanceHandle.class,
-                    Class.class, Annotation[].class);
-    private static final MethodDescriptor VERTX_EXECUTE_BLOCKING = MethodDescriptor.ofMethod(Vertx.class,
-            "executeBlocking", void.class, Handler.class, boolean.class, Handler.class);
-    private static final MethodDescriptor FUTURE_COMPLETE = MethodDescriptor.ofMethod(Future.class,
-            "complete", void.class, Object.class);
-    private static final MethodDescriptor FUTURE_FAIL = MethodDescriptor.ofMethod(Future.class,
-            "fail", void.class, Throwable.class);
     private static final MethodDescriptor ARC_CONTAINER_BEAN = MethodDescriptor.ofMethod(ArcContainer.class, "bean",
             InjectableBean.class, String.class);
     private static final MethodDescriptor ARC_CONTAINER_INSTANCE_FOR_BEAN = MethodDescriptor
@@ -82,48 +70,50 @@ class EventBusConsumer {
         String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
                 + HashUtil.sha1(sigBuilder.toString());
 
+        // The dispatch to a worker thread and the batching of messages are handled by VertxRecorder
+        AnnotationValue batchSize = consumeEvent.value("batchSize");
+        boolean batched = batchSize != null && batchSize.asInt() > 0;
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(EventConsumerInvoker.class).build();
+                .interfaces(batched ? BatchEventConsumerInvoker.class : EventConsumerInvoker.class).build();
 
-        MethodCreator invoke = invokerCreator.getMethodCreator("invoke", void.class, Message.class);
-        ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
-
-        AnnotationValue blocking = consumeEvent.value("blocking");
-        if (blocking != null && blocking.asBoolean()) {
-            // Blocking operation must be performed on a worker thread
-            ResultHandle vertxHandle = invoke
-                    .invokeInterfaceMethod(INSTANCE_HANDLE_GET,
-                            invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_TYPE, containerHandle,
-                                    invoke.loadClass(Vertx.class),
-                                    invoke.newArray(Annotation.class.getName(), invoke.load(0))));
-
-            FunctionCreator func = invoke.createFunction(Handler.class);
-            BytecodeCreator funcBytecode = func.getBytecode();
-            AssignableResultHandle messageHandle = funcBytecode.createVariable(Message.class);
-            funcBytecode.assign(messageHandle, invoke.getMethodParam(0));
-            TryBlock tryBlock = funcBytecode.tryBlock();
-            invoke(bean, method, messageHandle, tryBlock);
-            tryBlock.invokeInterfaceMethod(FUTURE_COMPLETE, funcBytecode.getMethodParam(0), tryBlock.loadNull());
-            CatchBlockCreator catchBlock = tryBlock.addCatch(Exception.class);
-            catchBlock.invokeInterfaceMethod(FUTURE_FAIL, funcBytecode.getMethodParam(0), catchBlock.getMethodParam(0));
-            funcBytecode.returnValue(null);
-
-            invoke.invokeInterfaceMethod(VERTX_EXECUTE_BLOCKING, vertxHandle, func.getInstance(), invoke.load(false),
-                    invoke.loadNull());
+        if (batched) {
+            MethodCreator invokeBatch = invokerCreator.getMethodCreator("invokeBatch", void.class, List.class);
+            invokeBatch(bean, method, invokeBatch.getMethodParam(0), invokeBatch);
+            invokeBatch.returnValue(null);
         } else {
+            MethodCreator invoke = invokerCreator.getMethodCreator("invoke", void.class, Message.class);
             invoke(bean, method, invoke.getMethodParam(0), invoke);
+            invoke.returnValue(null);
         }
-        invoke.returnValue(null);
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
-    private static void invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
+    private static void invokeBatch(BeanInfo bean, MethodInfo method, ResultHandle bodiesHandle, BytecodeCreator invoke) {
+        ResultHandle instanceHandle = instanceHandle(bean, invoke);
+        ResultHandle beanInstanceHandle = invoke.invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, bodiesHandle);
+        destroyDependent(bean, instanceHandle, invoke);
+    }
+
+    private static ResultHandle instanceHandle(BeanInfo bean, BytecodeCreator invoke) {
         ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
         ResultHandle beanHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
                 invoke.load(bean.getIdentifier()));
-        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
-                beanHandle);
+        return invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle, beanHandle);
+    }
+
+    private static void destroyDependent(BeanInfo bean, ResultHandle instanceHandle, BytecodeCreator invoke) {
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+    }
+
+    private static void invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
+        ResultHandle instanceHandle = instanceHandle(bean, invoke);
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
 
@@ -177,10 +167,7 @@ class EventBusConsumer {
             }
         }
 
-        // handle.destroy() - destroy dependent instance afterwards
-        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
-            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
-        }
+        destroyDependent(bean, instanceHandle, invoke);
     }
 
     private EventBusConsumer() {
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
 
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
@@ -117,6 +119,28 @@ class VertxProcessor {
                                     "Event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s",
                                     params, method, bean));
                         }
+                        AnnotationValue blocking = consumeEvent.value("blocking");
+                        AnnotationValue ordered = consumeEvent.value("ordered");
+                        if (ordered != null && ordered.asBoolean() && (blocking == null || !blocking.asBoolean())) {
+                            // the invocations of a non-blocking consumer are always executed in order on its event loop
+                            throw new IllegalStateException(String.format(
+                                    "Ordered event consumer business method must be blocking: %s [method: %s, bean:%s",
+                                    params, method, bean));
+                        }
+                        AnnotationValue batchSize = consumeEvent.value("batchSize");
+                        if (batchSize != null && batchSize.asInt() > 0) {
+                            if (!params.get(0).name().equals(LIST) || method.returnType().kind() != Type.Kind.VOID) {
+                                throw new IllegalStateException(String.format(
+                                        "Batched event consumer business method must accept a java.util.List and return void: %s [method: %s, bean:%s",
+                                        params, method, bean));
+                            }
+                            AnnotationValue batchTimeout = consumeEvent.value("batchTimeout");
+                            if (batchTimeout != null && batchTimeout.asLong() < 1) {
+                                throw new IllegalStateException(String.format(
+                                        "Batched event consumer business method must declare a positive batch timeout: %s [method: %s, bean:%s",
+                                        batchTimeout.asLong(), method, bean));
+                            }
+                        }
                         messageConsumerBusinessMethods
                                 .produce(new EventConsumerBusinessMethodItem(bean, method, consumeEvent));
                         LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
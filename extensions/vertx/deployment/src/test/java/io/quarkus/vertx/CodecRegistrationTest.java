@@ -26,7 +26,8 @@ public class CodecRegistrationTest {
     @RegisterExtension
     static final QuarkusUnitTest config = new QuarkusUnitTest()
             .setArchiveProducer(() -> ShrinkWrap
-                    .create(JavaArchive.class).addClasses(EventBusConsumers.class));
+                    .create(JavaArchive.class)
+                    .addClasses(EventBusConsumers.class, CustomType5.class, CustomType5Impl.class));
 
     @Inject
     EventBusConsumers bean;
@@ -136,6 +137,17 @@ public class CodecRegistrationTest {
 
     }
 
+    @Test
+    public void testCodecRegistrationBasedOnParameterSubtype() {
+        String address = "address-9";
+        CustomType5Impl body = new CustomType5Impl("foo");
+        vertx.eventBus().send(address, body);
+
+        await().until(() -> bean.getSubtypeSink().size() == 1);
+        // The local codec hands over the instance without copying it
+        assertThat(bean.getSubtypeSink().get(0)).isSameAs(body);
+    }
+
     private static class EventBusConsumers {
 
         private List<String> address1 = new CopyOnWriteArrayList<>();
@@ -192,10 +204,21 @@ public class CodecRegistrationTest {
             return CompletableFuture.completedFuture(new CustomType4(n));
         }
 
+        List<CustomType5> subtypeSink = new CopyOnWriteArrayList<>();
+
+        @ConsumeEvent("address-9")
+        void codecRegistrationBasedOnParamSubtype(CustomType5 ct) {
+            subtypeSink.add(ct);
+        }
+
         public List<Object> getSink() {
             return sink;
         }
 
+        public List<CustomType5> getSubtypeSink() {
+            return subtypeSink;
+        }
+
     }
 
     static class CustomType1 {
@@ -252,4 +275,23 @@ public class CodecRegistrationTest {
             return name;
         }
     }
+
+    static abstract class CustomType5 {
+        private final String name;
+
+        CustomType5(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    static class CustomType5Impl extends CustomType5 {
+
+        CustomType5Impl(String name) {
+            super(name);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -113,6 +115,53 @@ public class MessageConsumerMethodTest {
         assertTrue(message.contains("hello::true"));
     }
 
+    @Test
+    public void testOrderedBlockingConsumer() throws InterruptedException {
+        SimpleBean.MESSAGES.clear();
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        SimpleBean.latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            eventBus.send("blocking-ordered", "message-" + i);
+        }
+        assertTrue(SimpleBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("message-0::true", "message-1::true", "message-2::true", "message-3::true",
+                "message-4::true"), SimpleBean.MESSAGES);
+    }
+
+    @Test
+    public void testBatchConsumer() throws InterruptedException {
+        SimpleBean.MESSAGES.clear();
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        SimpleBean.latch = new CountDownLatch(2);
+        for (int i = 0; i < 6; i++) {
+            eventBus.send("batch", "m" + i);
+        }
+        assertTrue(SimpleBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("[m0, m1, m2]::false", "[m3, m4, m5]::false"), SimpleBean.MESSAGES);
+    }
+
+    @Test
+    public void testBatchConsumerTimeout() throws InterruptedException {
+        SimpleBean.MESSAGES.clear();
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        SimpleBean.latch = new CountDownLatch(1);
+        eventBus.send("batch-timeout", "m0");
+        eventBus.send("batch-timeout", "m1");
+        assertTrue(SimpleBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("[m0, m1]::false"), SimpleBean.MESSAGES);
+    }
+
+    @Test
+    public void testBlockingBatchConsumer() throws InterruptedException {
+        SimpleBean.MESSAGES.clear();
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        SimpleBean.latch = new CountDownLatch(1);
+        eventBus.send("batch-blocking", "m0");
+        eventBus.send("batch-blocking", "m1");
+        assertTrue(SimpleBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("[m0, m1]::true"), SimpleBean.MESSAGES);
+    }
+
     @Test
     public void testPublishRx() throws InterruptedException {
         SimpleBean.MESSAGES.clear();
@@ -172,6 +221,30 @@ public class MessageConsumerMethodTest {
             latch.countDown();
         }
 
+        @ConsumeEvent(value = "blocking-ordered", blocking = true, ordered = true)
+        void consumeBlockingOrdered(String message) {
+            MESSAGES.add(message + "::" + Context.isOnWorkerThread());
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "batch", batchSize = 3, batchTimeout = 10000)
+        void consumeBatch(List<String> messages) {
+            MESSAGES.add(messages + "::" + Context.isOnWorkerThread());
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "batch-timeout", batchSize = 10, batchTimeout = 50)
+        void consumeBatchTimeout(List<String> messages) {
+            MESSAGES.add(messages + "::" + Context.isOnWorkerThread());
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "batch-blocking", blocking = true, batchSize = 2)
+        void consumeBatchBlocking(List<String> messages) {
+            MESSAGES.add(messages + "::" + Context.isOnWorkerThread());
+            latch.countDown();
+        }
+
         @ConsumeEvent("pub-axle")
         void consume(io.vertx.axle.core.eventbus.Message<String> message) {
             MESSAGES.add(message.body().toUpperCase());
@@ -0,0 +1,33 @@
+package io.quarkus.vertx.deployment;
+
+import java.util.List;
+
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+
+public class MessageConsumerOrderedBatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(OrderedBatchBean.class))
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void testOrderedNonBlockingBatchConsumerIsRejected() {
+    }
+
+    @Singleton
+    static class OrderedBatchBean {
+
+        @ConsumeEvent(value = "ordered-batch", ordered = true, batchSize = 10)
+        void consume(List<String> messages) {
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.vertx.deployment;
+
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+
+public class MessageConsumerOrderedNonBlockingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(OrderedBean.class))
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void testOrderedNonBlockingConsumerIsRejected() {
+    }
+
+    @Singleton
+    static class OrderedBean {
+
+        @ConsumeEvent(value = "ordered", ordered = true)
+        void consume(String message) {
+        }
+    }
+}
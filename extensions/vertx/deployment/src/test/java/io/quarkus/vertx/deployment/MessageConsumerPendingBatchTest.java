@@ -0,0 +1,61 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+
+public class MessageConsumerPendingBatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(BatchBean.class))
+            // the batches that were not full are delivered on shutdown, without waiting for their timeout
+            .setAfterUndeployListener(() -> {
+                assertEquals(Collections.singletonList("[m0, m1]"), BatchBean.MESSAGES);
+                assertEquals(Collections.singletonList("[b0]"), BatchBean.BLOCKING_MESSAGES);
+            });
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testPendingBatch() {
+        eventBus.send("pending-batch", "m0");
+        eventBus.send("pending-batch", "m1");
+        eventBus.send("pending-batch-blocking", "b0");
+        assertTrue(BatchBean.MESSAGES.isEmpty());
+        assertTrue(BatchBean.BLOCKING_MESSAGES.isEmpty());
+    }
+
+    @Singleton
+    static class BatchBean {
+
+        static final List<String> MESSAGES = new CopyOnWriteArrayList<>();
+        static final List<String> BLOCKING_MESSAGES = new CopyOnWriteArrayList<>();
+
+        @ConsumeEvent(value = "pending-batch", batchSize = 10, batchTimeout = 3600000)
+        void consume(List<String> messages) {
+            MESSAGES.add(messages.toString());
+        }
+
+        @ConsumeEvent(value = "pending-batch-blocking", blocking = true, batchSize = 10, batchTimeout = 3600000)
+        void consumeBlocking(List<String> messages) {
+            BLOCKING_MESSAGES.add(messages.toString());
+        }
+    }
+}
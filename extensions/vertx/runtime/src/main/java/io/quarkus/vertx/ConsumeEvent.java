@@ -38,6 +38,11 @@ import io.vertx.core.eventbus.MessageCodec;
  *     void echoMessageBlocking(Message<String> msg) {
  *         msg.reply(msg.body().toUpperCase());
  *     }
+ *
+ *     &#64;ConsumeEvent(value = "store", blocking = true, batchSize = 100)
+ *     void store(List<String> msgs) {
+ *         // receives up to 100 message bodies at once
+ *     }
  * }
  * </pre>
  * 
@@ -74,6 +79,36 @@ public @interface ConsumeEvent {
      */
     boolean blocking() default false;
 
+    /**
+     * 
+     * The invocations of a non-blocking consumer are always executed one after the other on its event loop, a consumer
+     * must be {@link #blocking()} to declare this attribute.
+     *
+     * @return {@code true} if the blocking invocations should be executed one after the other, in the order the messages
+     *         were received, {@code false} if they may be executed in parallel
+     * @see io.vertx.core.Vertx#executeBlocking(io.vertx.core.Handler, boolean, io.vertx.core.Handler)
+     */
+    boolean ordered() default false;
+
+    /**
+     * If greater than zero, the messages are delivered in batches: the method must accept a {@link java.util.List} of
+     * message bodies and return {@code void}. A batch is delivered once it contains this number of messages or
+     * {@link #batchTimeout()} milliseconds after its first message was received, whichever comes first.
+     * <p>
+     * The messages of a batch are not replied to, they are all failed if the method throws an exception. The batch being
+     * filled when the application stops is delivered before the consumer is removed.
+     *
+     * @return the maximum number of messages of a batch, {@code 0} to deliver the messages one by one
+     */
+    int batchSize() default 0;
+
+    /**
+     * 
+     * @return the maximum time, in milliseconds, a message waits for its batch to be full before the batch is delivered
+     * @see #batchSize()
+     */
+    long batchTimeout() default 100;
+
     /**
      * 
      * @return {@code null} if it should use a default MessageCodec
@@ -0,0 +1,19 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.List;
+
+import io.quarkus.vertx.ConsumeEvent;
+
+/**
+ * Invokes a business method annotated with {@link ConsumeEvent}, which consumes the message bodies in batches.
+ * <p>
+ * The invocation is performed on the calling thread, the batching and the dispatch to a worker thread are handled by the
+ * caller.
+ *
+ * @see ConsumeEvent#batchSize()
+ */
+public interface BatchEventConsumerInvoker {
+
+    void invokeBatch(List<Object> bodies);
+
+}
@@ -0,0 +1,145 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Accumulates the messages received by a consumer and delivers them in batches.
+ * <p>
+ * A batch is delivered once full or when its timer fires. All the methods are called on the context of the consumer so no
+ * synchronization is needed, except {@link #flushPending()}.
+ */
+final class BatchingMessageHandler implements Handler<Message<Object>> {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchingMessageHandler.class.getName());
+    private static final long FLUSH_TIMEOUT = 30;
+
+    private final Vertx vertx;
+    private final BatchEventConsumerInvoker invoker;
+    private final String address;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final boolean blocking;
+    private final boolean ordered;
+
+    private volatile Context context;
+    private List<Message<Object>> batch;
+    private long timerId = -1;
+
+    BatchingMessageHandler(Vertx vertx, BatchEventConsumerInvoker invoker, ConsumeEvent consumeEvent) {
+        this.vertx = vertx;
+        this.invoker = invoker;
+        this.address = consumeEvent.value();
+        this.batchSize = consumeEvent.batchSize();
+        this.batchTimeout = consumeEvent.batchTimeout();
+        this.blocking = consumeEvent.blocking();
+        this.ordered = consumeEvent.ordered();
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (batch == null) {
+            if (context == null) {
+                context = vertx.getOrCreateContext();
+            }
+            batch = new ArrayList<>(batchSize);
+            timerId = vertx.setTimer(batchTimeout, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    timerId = -1;
+                    flush(null);
+                }
+            });
+        }
+        batch.add(message);
+        if (batch.size() >= batchSize) {
+            cancelTimer();
+            flush(null);
+        }
+    }
+
+    /**
+     * Delivers the batch being filled, if any, without waiting for its timer and waits up to {@link #FLUSH_TIMEOUT} seconds
+     * for its invocation to complete. Called once the consumer is unregistered, so that the messages it received are not
+     * lost.
+     */
+    void flushPending() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Handler<Void> task = v -> {
+            cancelTimer();
+            flush(latch::countDown);
+        };
+        Context context = this.context;
+        if (context != null) {
+            context.runOnContext(task);
+        } else {
+            // not bound to a context, deliver on the caller thread
+            task.handle(null);
+        }
+        try {
+            if (!latch.await(FLUSH_TIMEOUT, TimeUnit.SECONDS)) {
+                LOGGER.warnf("The pending batch of messages sent to %s was not delivered within %s seconds", address,
+                        FLUSH_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unable to deliver the pending batch of messages", e);
+        }
+    }
+
+    private void cancelTimer() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    private void flush(Runnable done) {
+        List<Message<Object>> messages = batch;
+        batch = null;
+        if (messages == null) {
+            if (done != null) {
+                done.run();
+            }
+            return;
+        }
+        if (blocking) {
+            Handler<AsyncResult<Void>> resultHandler = done != null ? ar -> done.run() : null;
+            vertx.<Void> executeBlocking(future -> {
+                invoke(messages);
+                future.complete();
+            }, ordered, resultHandler);
+        } else {
+            // the batches of a non-blocking consumer are invoked on its event loop, always in order
+            invoke(messages);
+            if (done != null) {
+                done.run();
+            }
+        }
+    }
+
+    private void invoke(List<Message<Object>> messages) {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        try {
+            invoker.invokeBatch(bodies);
+        } catch (Throwable e) {
+            for (Message<Object> message : messages) {
+                message.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
+            }
+        }
+    }
+}
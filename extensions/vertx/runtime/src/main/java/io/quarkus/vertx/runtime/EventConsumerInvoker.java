@@ -4,7 +4,11 @@ import io.quarkus.vertx.ConsumeEvent;
 import io.vertx.core.eventbus.Message;
 
 /**
- * Invokes a business method annotated with {@link ConsumeEvent}.
+ * Invokes a business method annotated with {@link ConsumeEvent}, which consumes the messages one by one.
+ * <p>
+ * The invocation is performed on the calling thread, the dispatch to a worker thread is handled by the caller.
+ *
+ * @see BatchEventConsumerInvoker
  */
 public interface EventConsumerInvoker {
 
@@ -16,9 +16,11 @@ import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.LocalEventBusCodec;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.MessageConsumer;
 
@@ -29,11 +31,15 @@ public class VertxRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static volatile List<BatchingMessageHandler> batchingHandlers;
+    static volatile List<Class<?>> codecTypes;
 
     public void configureVertx(Supplier<Vertx> vertx, Map<String, ConsumeEvent> messageConsumerConfigurations,
             LaunchMode launchMode, ShutdownContext shutdown, Map<Class<?>, Class<?>> codecByClass) {
         this.vertx = vertx.get();
         this.messageConsumers = new ArrayList<>();
+        this.batchingHandlers = new ArrayList<>();
+        this.codecTypes = new ArrayList<>();
 
         registerMessageConsumers(messageConsumerConfigurations);
         registerCodecs(codecByClass);
@@ -43,6 +49,7 @@ public class VertxRecorder {
                 @Override
                 public void run() {
                     unregisterMessageConsumers();
+                    unregisterCodecs();
                 }
             });
         } else {
@@ -69,7 +76,10 @@ public class VertxRecorder {
     }
 
     void destroy() {
+        flushBatches();
         messageConsumers = null;
+        batchingHandlers = null;
+        codecTypes = null;
     }
 
     void registerMessageConsumers(Map<String, ConsumeEvent> messageConsumerConfigurations) {
@@ -77,21 +87,31 @@ public class VertxRecorder {
             EventBus eventBus = vertx.eventBus();
             CountDownLatch latch = new CountDownLatch(messageConsumerConfigurations.size());
             for (Entry<String, ConsumeEvent> entry : messageConsumerConfigurations.entrySet()) {
-                EventConsumerInvoker invoker = createInvoker(entry.getKey());
-                String address = entry.getValue().value();
+                ConsumeEvent consumeEvent = entry.getValue();
+                String address = consumeEvent.value();
                 MessageConsumer<Object> consumer;
-                if (entry.getValue().local()) {
+                if (consumeEvent.local()) {
                     consumer = eventBus.localConsumer(address);
                 } else {
                     consumer = eventBus.consumer(address);
                 }
-                consumer.handler(m -> {
-                    try {
-                        invoker.invoke(m);
-                    } catch (Throwable e) {
-                        m.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
-                    }
-                });
+                if (consumeEvent.batchSize() > 0) {
+                    BatchingMessageHandler handler = new BatchingMessageHandler(vertx,
+                            createInvoker(entry.getKey(), BatchEventConsumerInvoker.class), consumeEvent);
+                    consumer.handler(handler);
+                    batchingHandlers.add(handler);
+                } else if (consumeEvent.blocking()) {
+                    // Blocking operation must be performed on a worker thread
+                    EventConsumerInvoker invoker = createInvoker(entry.getKey(), EventConsumerInvoker.class);
+                    boolean ordered = consumeEvent.ordered();
+                    consumer.handler(m -> vertx.executeBlocking(future -> {
+                        invoke(invoker, m);
+                        future.complete();
+                    }, ordered, null));
+                } else {
+                    EventConsumerInvoker invoker = createInvoker(entry.getKey(), EventConsumerInvoker.class);
+                    consumer.handler(m -> invoke(invoker, m));
+                }
                 consumer.completionHandler(ar -> {
                     if (ar.succeeded()) {
                         latch.countDown();
@@ -108,6 +128,14 @@ public class VertxRecorder {
         }
     }
 
+    private static void invoke(EventConsumerInvoker invoker, Message<Object> message) {
+        try {
+            invoker.invoke(message);
+        } catch (Throwable e) {
+            message.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
+        }
+    }
+
     void unregisterMessageConsumers() {
         CountDownLatch latch = new CountDownLatch(messageConsumers.size());
         for (MessageConsumer<?> messageConsumer : messageConsumers) {
@@ -124,17 +152,24 @@ public class VertxRecorder {
             throw new IllegalStateException("Unable to unregister all message consumer methods", e);
         }
         messageConsumers.clear();
+        // the consumers no longer receive messages, the batches they were filling can be delivered
+        flushBatches();
+        batchingHandlers.clear();
     }
 
-    @SuppressWarnings("unchecked")
-    private EventConsumerInvoker createInvoker(String invokerClassName) {
+    private void flushBatches() {
+        for (BatchingMessageHandler handler : batchingHandlers) {
+            handler.flushPending();
+        }
+    }
+
+    private <T> T createInvoker(String invokerClassName, Class<T> invokerType) {
         try {
             ClassLoader cl = Thread.currentThread().getContextClassLoader();
             if (cl == null) {
                 cl = VertxProducer.class.getClassLoader();
             }
-            Class<? extends EventConsumerInvoker> invokerClazz = (Class<? extends EventConsumerInvoker>) cl
-                    .loadClass(invokerClassName);
+            Class<? extends T> invokerClazz = cl.loadClass(invokerClassName).asSubclass(invokerType);
             return invokerClazz.getDeclaredConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | NoSuchMethodException
                 | InvocationTargetException e) {
@@ -149,9 +184,14 @@ public class VertxRecorder {
             Class<?> target = codecEntry.getKey();
             Class<?> codec = codecEntry.getValue();
             try {
-                if (MessageCodec.class.isAssignableFrom(codec)) {
+                if (codec == LocalEventBusCodec.class) {
+                    // Pass-through codec, the body reference is handed over to the local consumers without copying
+                    eventBus.registerDefaultCodec(target, new LocalEventBusCodec<>());
+                    codecTypes.add(target);
+                } else if (MessageCodec.class.isAssignableFrom(codec)) {
                     MessageCodec messageCodec = (MessageCodec) codec.newInstance();
                     eventBus.registerDefaultCodec(target, messageCodec);
+                    codecTypes.add(target);
                 } else {
                     LOGGER.error(String.format("The codec %s does not inherit from MessageCodec ", target.toString()));
                 }
@@ -161,6 +201,16 @@ public class VertxRecorder {
         }
     }
 
+    void unregisterCodecs() {
+        // In dev mode the Vert.x instance outlives the application, the codecs registered for the classes of the
+        // previous class loader must be removed
+        EventBus eventBus = vertx.eventBus();
+        for (Class<?> codecType : codecTypes) {
+            eventBus.unregisterDefaultCodec(codecType);
+        }
+        codecTypes.clear();
+    }
+
     private void registerCodec(Class<?> typeToAdd, MessageCodec codec) {
         EventBus eventBus = vertx.eventBus();
         eventBus.registerDefaultCodec(typeToAdd, codec);
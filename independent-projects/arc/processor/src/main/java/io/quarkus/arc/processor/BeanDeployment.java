@@ -291,6 +291,13 @@ public class BeanDeployment {
             }
             LOGGER.debugf("Removed %s unused beans in %s ms", removable.size(), System.currentTimeMillis() - removalStart);
         }
+        // Assign a dense index to every @RequestScoped bean so that the request context can use an array-based storage
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextIndex(requestContextIndex++);
+            }
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
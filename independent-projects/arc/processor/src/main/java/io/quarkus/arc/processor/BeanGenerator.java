@@ -195,6 +195,9 @@ public class BeanGenerator extends AbstractGenerator {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, Collections.emptyMap(), reflectionRegistration,
                     isApplicationClass, baseName);
@@ -275,6 +278,9 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals);
 
         implementGetIdentifier(bean, beanCreator);
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, injectionPointToProviderSupplierField, reflectionRegistration,
                     isApplicationClass, baseName);
@@ -369,6 +375,9 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals);
 
         implementGetIdentifier(bean, beanCreator);
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, injectionPointToProviderField, reflectionRegistration,
                     isApplicationClass, baseName);
@@ -450,6 +459,9 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals);
 
         implementGetIdentifier(bean, beanCreator);
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (!bean.hasDefaultDestroy()) {
             implementDestroy(bean, beanCreator, providerTypeName, null, reflectionRegistration, isApplicationClass, baseName);
         }
@@ -1458,6 +1470,18 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+    }
+
     /**
      *
      * @param bean
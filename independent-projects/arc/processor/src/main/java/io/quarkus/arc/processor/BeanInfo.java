@@ -77,6 +77,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final Map<String, Object> params;
 
+    private int requestContextIndex = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -324,6 +326,19 @@ public class BeanInfo implements InjectionTargetInfo {
         return isDefaultBean;
     }
 
+    /**
+     *
+     * @return the index of the bean in the request context storage or -1 if the bean is not
+     *         {@link javax.enterprise.context.RequestScoped}
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     Consumer<MethodCreator> getCreatorConsumer() {
         return creatorConsumer;
     }
@@ -27,6 +27,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
      */
     String getIdentifier();
 
+    /**
+     * The index is assigned by the container to every {@link javax.enterprise.context.RequestScoped} bean and is unique for a
+     * specific deployment. It is used by the built-in request context to store the contextual instance.
+     *
+     * @return the index of the bean in the request context storage, or -1
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     /**
      *
      * @return the scope
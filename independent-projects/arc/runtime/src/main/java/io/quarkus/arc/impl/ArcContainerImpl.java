@@ -16,6 +16,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -94,9 +95,10 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
+        // Indexes assigned to @RequestScoped beans, see InjectableBean#getRequestContextIndex()
+        BitSet requestContextIndexes = new BitSet();
+        boolean requestContextIndexesUnique = true;
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -105,6 +107,14 @@ public class ArcContainerImpl implements ArcContainer {
                     interceptors.add((InjectableInterceptor<?>) bean);
                 } else {
                     beans.add(bean);
+                    int index = bean.getRequestContextIndex();
+                    if (index >= 0) {
+                        if (requestContextIndexes.get(index)) {
+                            // Multiple deployments - fall back to the map-based storage
+                            requestContextIndexesUnique = false;
+                        }
+                        requestContextIndexes.set(index);
+                    }
                 }
             }
             observers.addAll(components.getObservers());
@@ -125,6 +135,9 @@ public class ArcContainerImpl implements ArcContainer {
                 transitiveInterceptorBindings.put(entry.getKey(), entry.getValue());
             }
         }
+        requestContext = new RequestContext(requestContextIndexesUnique ? requestContextIndexes.length() : 0);
+        contexts.add(0, requestContext);
+
         // register built-in beans
         addBuiltInBeans();
 
@@ -5,10 +5,7 @@ import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext.ContextState;
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.ConcurrentMap;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.enterprise.context.spi.Contextual;
 
 class InstanceHandlesContextState implements ContextState {
 
@@ -23,8 +20,8 @@ class InstanceHandlesContextState implements ContextState {
         return handles.stream().collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
     }
 
-    ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> toConcurrentMap() {
-        return handles.stream().collect(Collectors.toConcurrentMap(ContextInstanceHandle::getBean, Function.identity()));
+    Collection<ContextInstanceHandle<?>> getHandles() {
+        return handles;
     }
 
 }
@@ -6,11 +6,16 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -31,13 +36,21 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextInstances> currentContext = new ThreadLocal<>();
+
+    // The number of indexed slots, see InjectableBean#getRequestContextIndex()
+    private final int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
     public RequestContext() {
+        this(0);
+    }
+
+    public RequestContext(int size) {
+        this.size = size;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -54,7 +67,7 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -81,7 +94,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -95,12 +108,16 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new ContextInstances(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof InstanceHandlesContextState) {
-                currentContext.set(((InstanceHandlesContextState) initialState).toConcurrentMap());
+                ContextInstances ctx = new ContextInstances(size);
+                for (ContextInstanceHandle<?> handle : ((InstanceHandlesContextState) initialState).getHandles()) {
+                    ctx.put(handle.getBean(), handle);
+                }
+                currentContext.set(ctx);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState);
             }
@@ -109,7 +126,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -124,7 +141,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -176,4 +193,116 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * Instances of {@link RequestScoped} beans are stored in an array and accessed directly by the index assigned at build
+     * time. Contextual types without an index (e.g. custom {@link Contextual} implementations) are stored in a map that is only
+     * created when needed.
+     */
+    static final class ContextInstances {
+
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        ContextInstances(int size) {
+            this.indexed = new AtomicReferenceArray<>(size);
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                indexed.set(index, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        /**
+         *
+         * @return a live view of the stored instances
+         */
+        Collection<ContextInstanceHandle<?>> values() {
+            return new AbstractCollection<ContextInstanceHandle<?>>() {
+
+                @Override
+                public Iterator<ContextInstanceHandle<?>> iterator() {
+                    return snapshot().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return snapshot().size();
+                }
+            };
+        }
+
+        void clear() {
+            for (int i = 0; i < indexed.length(); i++) {
+                indexed.set(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        private List<ContextInstanceHandle<?>> snapshot() {
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            for (int i = 0; i < indexed.length(); i++) {
+                ContextInstanceHandle<?> instance = indexed.get(i);
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                values.addAll(map.values());
+            }
+            return values;
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index < indexed.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map == null) {
+                synchronized (this) {
+                    map = others;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        others = map;
+                    }
+                }
+            }
+            return map;
+        }
+
+    }
+
 }
@@ -0,0 +1,206 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Covers both storages of {@link RequestContext.ContextInstances}: the array slots of the beans with a request context index
+ * and the map used for all the other contextuals.
+ */
+public class RequestContextInstancesTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Dummy.class);
+
+    @Test
+    public void testIndexedAndOtherInstances() {
+        List<Object> destroyed = new ArrayList<>();
+        // slots 0 and 1 are indexed, 5 is beyond the size and -1 is not indexed at all
+        TestBean indexed = new TestBean(0, destroyed);
+        TestBean beyondSize = new TestBean(5, destroyed);
+        TestBean notIndexed = new TestBean(-1, destroyed);
+        assertGetDestroy(new RequestContext(2), destroyed, indexed, beyondSize, notIndexed);
+    }
+
+    @Test
+    public void testNoIndexedSlots() {
+        List<Object> destroyed = new ArrayList<>();
+        // the default constructor has no slot, every instance is stored in the map
+        assertGetDestroy(new RequestContext(), destroyed, new TestBean(0, destroyed), new TestBean(1, destroyed),
+                new TestBean(-1, destroyed));
+    }
+
+    @Test
+    public void testStateRoundTrip() {
+        List<Object> destroyed = new ArrayList<>();
+        TestBean indexed = new TestBean(0, destroyed);
+        TestBean notIndexed = new TestBean(-1, destroyed);
+        RequestContext context = new RequestContext(1);
+        context.activate();
+        try {
+            Object indexedInstance = context.get(indexed, new CreationalContextImpl<>(indexed));
+            Object notIndexedInstance = context.get(notIndexed, new CreationalContextImpl<>(notIndexed));
+            ContextState state = context.getState();
+            assertEquals(2, state.getContextualInstances().size());
+            context.deactivate();
+
+            context.activate(state);
+            assertSame(indexedInstance, context.get(indexed));
+            assertSame(notIndexedInstance, context.get(notIndexed));
+            assertEquals(2, context.getState().getContextualInstances().size());
+
+            context.destroy();
+            assertEquals(2, destroyed.size());
+            assertTrue(destroyed.contains(indexedInstance));
+            assertTrue(destroyed.contains(notIndexedInstance));
+            assertNull(context.get(indexed));
+            assertNull(context.get(notIndexed));
+        } finally {
+            context.deactivate();
+        }
+    }
+
+    @Test
+    public void testCustomContextual() {
+        List<Object> destroyed = new ArrayList<>();
+        TestBean indexed = new TestBean(0, destroyed);
+        Contextual<Object> custom = new Contextual<Object>() {
+
+            @Override
+            public Object create(CreationalContext<Object> creationalContext) {
+                return new Object();
+            }
+
+            @Override
+            public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+            }
+        };
+        RequestContext.ContextInstances instances = new RequestContext.ContextInstances(1);
+        ContextInstanceHandle<Object> indexedHandle = handle(indexed);
+        ContextInstanceHandle<Object> customHandle = handle(new TestBean(-1, destroyed));
+        instances.put(indexed, indexedHandle);
+        instances.put(custom, customHandle);
+        assertSame(indexedHandle, instances.get(indexed));
+        assertSame(customHandle, instances.get(custom));
+        assertEquals(2, instances.values().size());
+
+        assertSame(customHandle, instances.remove(custom));
+        assertNull(instances.get(custom));
+        assertNull(instances.remove(custom));
+        assertEquals(Collections.singletonList(indexedHandle), new ArrayList<>(instances.values()));
+
+        instances.put(custom, customHandle);
+        instances.clear();
+        assertNull(instances.get(indexed));
+        assertNull(instances.get(custom));
+        assertTrue(instances.values().isEmpty());
+    }
+
+    private void assertGetDestroy(RequestContext context, List<Object> destroyed, TestBean... beans) {
+        context.activate();
+        try {
+            List<Object> instances = new ArrayList<>();
+            for (TestBean bean : beans) {
+                assertNull(context.get(bean));
+                Object instance = context.get(bean, new CreationalContextImpl<>(bean));
+                assertNotNull(instance);
+                assertSame(instance, context.get(bean));
+                assertSame(instance, context.get(bean, new CreationalContextImpl<>(bean)));
+                instances.add(instance);
+            }
+            assertEquals(beans.length, context.getState().getContextualInstances().size());
+
+            // destroying a single instance leaves the others
+            context.destroy(beans[0]);
+            assertEquals(Collections.singletonList(instances.get(0)), destroyed);
+            assertNull(context.get(beans[0]));
+            for (int i = 1; i < beans.length; i++) {
+                assertSame(instances.get(i), context.get(beans[i]));
+            }
+
+            context.destroy();
+            assertEquals(instances.size(), destroyed.size());
+            assertTrue(destroyed.containsAll(instances));
+            for (TestBean bean : beans) {
+                assertNull(context.get(bean));
+            }
+        } finally {
+            context.deactivate();
+        }
+    }
+
+    private static ContextInstanceHandle<Object> handle(TestBean bean) {
+        return new ContextInstanceHandleImpl<>(bean, new Object(), new CreationalContextImpl<>(bean));
+    }
+
+    static class TestBean implements InjectableBean<Object> {
+
+        private final int index;
+        private final List<Object> destroyed;
+
+        TestBean(int index, List<Object> destroyed) {
+            this.index = index;
+            this.destroyed = destroyed;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "test-bean-" + index;
+        }
+
+        @Override
+        public int getRequestContextIndex() {
+            return index;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return new HashSet<>(Collections.singletonList(Object.class));
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+            destroyed.add(instance);
+        }
+
+    }
+
+    @RequestScoped
+    static class Dummy {
+    }
+
+}
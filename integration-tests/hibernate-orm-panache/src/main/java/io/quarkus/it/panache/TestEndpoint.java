@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -16,9 +17,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 
+import org.hibernate.Session;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.junit.jupiter.api.Assertions;
 
+import io.quarkus.hibernate.orm.panache.Panache;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
@@ -770,6 +773,108 @@ public class TestEndpoint {
         return "OK";
     }
 
+    @GET
+    @Path("batches")
+    @Transactional
+    public String testBatches() {
+        Assertions.assertEquals(0, Person.count());
+
+        List<Person> persons = IntStream.range(0, 10).mapToObj(i -> {
+            Person person = new Person();
+            person.name = "batch" + i;
+            return person;
+        }).collect(Collectors.toList());
+        Person.persistInBatches(persons.subList(0, 5).stream(), 2);
+        personDao.persistInBatches(persons.subList(5, 10).stream(), 3);
+
+        Assertions.assertEquals(10, Person.count());
+        for (Person person : persons) {
+            Assertions.assertNotNull(person.id);
+            // the persistence context was cleared after every batch
+            Assertions.assertFalse(person.isPersistent());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Person.persistInBatches(Stream.empty(), 0));
+
+        Person.deleteAll();
+        return "OK";
+    }
+
+    @GET
+    @Path("keyset")
+    @Transactional
+    public String testKeyset() {
+        Assertions.assertEquals(0, Person.count());
+
+        for (int i = 0; i < 7; i++) {
+            Person person = new Person();
+            person.name = i % 2 == 0 ? "keyset" : "other";
+            person.uniqueName = "keyset" + i;
+            person.persist();
+        }
+
+        Sort sort = Sort.by("name").and("uniqueName", Sort.Direction.Descending);
+        PanacheQuery<Person> query = Person.find("uniqueName like ?1", sort, "keyset%").page(0, 3);
+        Assertions.assertEquals(Arrays.asList("keyset6", "keyset4", "keyset2"), uniqueNames(query.list()));
+        Person last = query.list().get(2);
+        Assertions.assertEquals(Arrays.asList("keyset0", "keyset5", "keyset3"),
+                uniqueNames(query.afterResult(last).list()));
+        Assertions.assertEquals(Arrays.asList("keyset1"), uniqueNames(query.after("other", "keyset3").list()));
+        Assertions.assertEquals(7, query.count());
+
+        query = Person.findAll(Sort.by("uniqueName")).page(0, 4);
+        Assertions.assertEquals(Arrays.asList("keyset4", "keyset5", "keyset6"),
+                uniqueNames(query.after("keyset3").list()));
+        query = Person.find("name = :name", Sort.by("uniqueName"), Parameters.with("name", "other")).page(0, 4);
+        Assertions.assertEquals(Arrays.asList("keyset3", "keyset5"), uniqueNames(query.after("keyset1").list()));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> Person.findAll().after("keyset1"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Person.findAll(Sort.by("uniqueName")).after("keyset1", 1L));
+
+        // the entities loaded by the stream are detached and the changes made to them are discarded, the ones that were
+        // already managed stay so and keep their changes
+        Panache.getEntityManager().flush();
+        Panache.getEntityManager().clear();
+        Person managed = Person.find("uniqueName", "keyset0").firstResult();
+        try (Stream<Person> stream = Person.findAll(Sort.by("uniqueName")).detachingStream(2)) {
+            List<Person> persons = stream.peek(person -> {
+                Assertions.assertTrue(person.isPersistent());
+                person.name = "changed";
+            }).collect(Collectors.toList());
+            Assertions.assertEquals(7, persons.size());
+            Assertions.assertSame(managed, persons.get(0));
+            Assertions.assertTrue(managed.isPersistent());
+            Assertions.assertFalse(persons.get(1).isPersistent());
+            Assertions.assertFalse(persons.get(6).isPersistent());
+        }
+        Panache.getEntityManager().flush();
+        Panache.getEntityManager().clear();
+        Assertions.assertEquals(1, Person.count("name", "changed"));
+        Assertions.assertEquals("changed", Person.<Person> find("uniqueName", "keyset0").firstResult().name);
+
+        // the detaching stream leaves the settings of the query untouched
+        query = Person.findAll(Sort.by("uniqueName")).page(1, 2);
+        try (Stream<Person> stream = query.detachingStream(5)) {
+            Assertions.assertEquals(Arrays.asList("keyset2", "keyset3"),
+                    stream.map(person -> person.uniqueName).collect(Collectors.toList()));
+        }
+        List<Person> persons = query.list();
+        Assertions.assertEquals(Arrays.asList("keyset2", "keyset3"), uniqueNames(persons));
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        Assertions.assertFalse(session.isReadOnly(persons.get(0)));
+        try (Stream<Person> stream = query.after("keyset3").detachingStream(5)) {
+            Assertions.assertEquals(Arrays.asList("keyset4", "keyset5"),
+                    stream.map(person -> person.uniqueName).collect(Collectors.toList()));
+        }
+
+        Person.deleteAll();
+        return "OK";
+    }
+
+    private static List<String> uniqueNames(List<Person> persons) {
+        return persons.stream().map(person -> person.uniqueName).collect(Collectors.toList());
+    }
+
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     @GET
     @Path("ignored-properties")
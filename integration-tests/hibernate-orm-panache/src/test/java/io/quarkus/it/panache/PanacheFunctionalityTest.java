@@ -27,6 +27,16 @@ public class PanacheFunctionalityTest {
         RestAssured.when().get("/test/model3").then().body(is("OK"));
     }
 
+    @Test
+    public void testPanacheBatches() {
+        RestAssured.when().get("/test/batches").then().body(is("OK"));
+    }
+
+    @Test
+    public void testPanacheKeyset() {
+        RestAssured.when().get("/test/keyset").then().body(is("OK"));
+    }
+
     @Test
     public void testPanacheSerialisation() {
         RestAssured.given().accept(ContentType.JSON)
@@ -1,5 +1,6 @@
 package io.quarkus.it.main;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
 import org.junit.jupiter.api.Test;
@@ -22,4 +23,14 @@ public class DatasourceTestCase {
                 .body(is("PASSED"));
     }
 
+    @Test
+    public void testDataSourcePoolMetrics() {
+        RestAssured.when().get("/datasource").then()
+                .body(is("10"));
+        RestAssured.when().get("/metrics/vendor").then()
+                .body(containsString("vendor_agroal_active_count{datasource=\"default\"}"),
+                        containsString("vendor_agroal_leak_detection_count_total{datasource=\"default\"}"),
+                        containsString("vendor_agroal_acquisition_time_seconds_count{datasource=\"default\"}"));
+    }
+
 }
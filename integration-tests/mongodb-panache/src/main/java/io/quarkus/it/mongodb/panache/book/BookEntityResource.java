@@ -3,6 +3,9 @@ package io.quarkus.it.mongodb.panache.book;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.ws.rs.*;
@@ -10,6 +13,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import org.bson.types.ObjectId;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.jboss.logging.Logger;
 
 import io.quarkus.panache.common.Parameters;
@@ -75,6 +79,21 @@ public class BookEntityResource {
         return BookEntity.list("author", author);
     }
 
+    @GET
+    @Path("/stream/{author}")
+    public List<BookEntity> streamBooksByAuthor(@PathParam("author") String author) {
+        try (Stream<BookEntity> books = BookEntity.find("author", author).withBatchSize(1).stream()) {
+            return books.collect(Collectors.toList());
+        }
+    }
+
+    @GET
+    @Path("/publish/{author}")
+    public CompletionStage<List<BookEntity>> publishBooksByAuthor(@PathParam("author") String author) {
+        return ReactiveStreams.fromPublisher(BookEntity.find("author", author).withBatchSize(1).<BookEntity> publisher())
+                .toList().run();
+    }
+
     @GET
     @Path("/search")
     public BookEntity search(@QueryParam("author") String author, @QueryParam("title") String title,
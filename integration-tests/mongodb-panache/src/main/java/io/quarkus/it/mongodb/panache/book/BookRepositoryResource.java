@@ -3,6 +3,9 @@ package io.quarkus.it.mongodb.panache.book;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -11,6 +14,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import org.bson.types.ObjectId;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.jboss.logging.Logger;
 
 import io.quarkus.panache.common.Parameters;
@@ -78,6 +82,21 @@ public class BookRepositoryResource {
         return bookRepository.list("author", author);
     }
 
+    @GET
+    @Path("/stream/{author}")
+    public List<Book> streamBooksByAuthor(@PathParam("author") String author) {
+        try (Stream<Book> books = bookRepository.find("author", author).withBatchSize(1).stream()) {
+            return books.collect(Collectors.toList());
+        }
+    }
+
+    @GET
+    @Path("/publish/{author}")
+    public CompletionStage<List<Book>> publishBooksByAuthor(@PathParam("author") String author) {
+        return ReactiveStreams.fromPublisher(bookRepository.find("author", author).withBatchSize(1).<Book> publisher())
+                .toList().run();
+    }
+
     @GET
     @Path("/search")
     public Book search(@QueryParam("author") String author, @QueryParam("title") String title,
@@ -0,0 +1,10 @@
+package io.quarkus.it.mongodb.panache.bulk;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+/**
+ * An entity whose ID is a public field, read by the generated ID accessor.
+ */
+public class AccessorEntity extends PanacheMongoEntity {
+    public String name;
+}
@@ -0,0 +1,23 @@
+package io.quarkus.it.mongodb.panache.bulk;
+
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.types.ObjectId;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntityBase;
+
+/**
+ * An entity whose ID is declared on its getter, which is only read by encoding the entity.
+ */
+public class NoAccessorEntity extends PanacheMongoEntityBase {
+    private ObjectId key;
+    public String name;
+
+    @BsonId
+    public ObjectId getKey() {
+        return key;
+    }
+
+    public void setKey(ObjectId key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.it.mongodb.panache.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.bson.types.ObjectId;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+
+@Path("/persist-or-update")
+@Produces(MediaType.TEXT_PLAIN)
+public class PersistOrUpdateResource {
+
+    /**
+     * @return the ID of the entity once persisted, and whether it can be found by this ID
+     */
+    @POST
+    @Path("/accessor")
+    public String persistOrUpdateAccessorEntity(@QueryParam("id") String id, @QueryParam("bulk") boolean bulk) {
+        AccessorEntity entity = new AccessorEntity();
+        entity.id = id != null ? new ObjectId(id) : null;
+        entity.name = "accessor";
+        if (bulk) {
+            AccessorEntity.persistOrUpdate(Collections.singletonList(entity));
+        } else {
+            entity.persistOrUpdate();
+        }
+        return entity.id + ":" + (entity.id != null && AccessorEntity.findById(entity.id) != null);
+    }
+
+    /**
+     * @return the ID of the entity once persisted, and whether it can be found by this ID
+     */
+    @POST
+    @Path("/no-accessor")
+    public String persistOrUpdateNoAccessorEntity(@QueryParam("id") String id, @QueryParam("bulk") boolean bulk) {
+        NoAccessorEntity entity = new NoAccessorEntity();
+        entity.setKey(id != null ? new ObjectId(id) : null);
+        entity.name = "no-accessor";
+        if (bulk) {
+            NoAccessorEntity.persistOrUpdate(Collections.singletonList(entity));
+        } else {
+            entity.persistOrUpdate();
+        }
+        ObjectId key = entity.getKey();
+        return key + ":" + (key != null && NoAccessorEntity.findById(key) != null);
+    }
+
+    /**
+     * Persists new entities, and updates every other one of them.
+     *
+     * @return the number of entities with an ID, and the number of entities in the collection
+     */
+    @POST
+    @Path("/many")
+    public String persistOrUpdateMany(@QueryParam("count") int count) {
+        List<AccessorEntity> accessorEntities = new ArrayList<>();
+        List<NoAccessorEntity> noAccessorEntities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AccessorEntity accessorEntity = new AccessorEntity();
+            accessorEntity.name = "many-" + i;
+            accessorEntities.add(accessorEntity);
+            NoAccessorEntity noAccessorEntity = new NoAccessorEntity();
+            noAccessorEntity.name = "many-" + i;
+            noAccessorEntities.add(noAccessorEntity);
+        }
+        AccessorEntity.persistOrUpdate(accessorEntities.stream());
+        NoAccessorEntity.persistOrUpdate(noAccessorEntities.stream());
+
+        for (int i = 0; i < count; i += 2) {
+            accessorEntities.get(i).name = "updated-" + i;
+            noAccessorEntities.get(i).name = "updated-" + i;
+        }
+        AccessorEntity.persistOrUpdate(accessorEntities);
+        NoAccessorEntity.persistOrUpdate(noAccessorEntities);
+
+        long withId = accessorEntities.stream().filter(entity -> entity.id != null).count()
+                + noAccessorEntities.stream().filter(entity -> entity.getKey() != null).count();
+        String updated = "{'name': {'$regex': '^updated-'}}";
+        return withId + ":" + (AccessorEntity.count() + NoAccessorEntity.count()) + ":"
+                + (AccessorEntity.count(updated) + NoAccessorEntity.count(updated));
+    }
+
+    /**
+     * Persists entities whose names are unique but one.
+     *
+     * @return the number of failed writes, and the number of entities in the collection
+     */
+    @POST
+    @Path("/duplicate")
+    public String persistOrUpdateDuplicate() {
+        UniqueNameEntity.mongoCollection().createIndex(Indexes.ascending("name"), new IndexOptions().unique(true));
+        List<UniqueNameEntity> entities = new ArrayList<>();
+        for (String name : new String[] { "first", "second", "second", "third" }) {
+            UniqueNameEntity entity = new UniqueNameEntity();
+            entity.name = name;
+            entities.add(entity);
+        }
+        try {
+            UniqueNameEntity.persistOrUpdate(entities);
+            return "0:" + UniqueNameEntity.count();
+        } catch (MongoBulkWriteException e) {
+            return e.getWriteErrors().size() + ":" + UniqueNameEntity.count();
+        }
+    }
+
+    @DELETE
+    public void deleteAll() {
+        AccessorEntity.deleteAll();
+        NoAccessorEntity.deleteAll();
+        UniqueNameEntity.deleteAll();
+    }
+}
@@ -0,0 +1,10 @@
+package io.quarkus.it.mongodb.panache.bulk;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+/**
+ * An entity whose collection has a unique index on its name.
+ */
+public class UniqueNameEntity extends PanacheMongoEntity {
+    public String name;
+}
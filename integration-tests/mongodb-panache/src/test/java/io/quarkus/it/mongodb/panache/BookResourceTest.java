@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -91,6 +92,42 @@ class BookResourceTest {
         callPersonEndpoint("/persons/repository");
     }
 
+    @Test
+    public void testPersistOrUpdate() {
+        RestAssured.delete("/persist-or-update");
+        for (String kind : new String[] { "accessor", "no-accessor" }) {
+            for (boolean bulk : new boolean[] { false, true }) {
+                // the generated ID is set on the entity
+                String[] result = RestAssured.given().queryParam("bulk", bulk)
+                        .post("/persist-or-update/" + kind).asString().split(":");
+                Assertions.assertNotEquals("null", result[0], kind);
+                Assertions.assertEquals("true", result[1], kind);
+
+                String id = new ObjectId().toHexString();
+                Assertions.assertEquals(id + ":true", RestAssured.given().queryParam("bulk", bulk).queryParam("id", id)
+                        .post("/persist-or-update/" + kind).asString(), kind);
+            }
+        }
+        RestAssured.delete("/persist-or-update");
+    }
+
+    @Test
+    public void testPersistOrUpdateMany() {
+        RestAssured.delete("/persist-or-update");
+        // more entities than a bulk write chunk
+        Assertions.assertEquals("5002:5002:2502",
+                RestAssured.given().queryParam("count", 2501).post("/persist-or-update/many").asString());
+        RestAssured.delete("/persist-or-update");
+    }
+
+    @Test
+    public void testPersistOrUpdateDuplicate() {
+        RestAssured.delete("/persist-or-update");
+        // the writes of the chunk after the failed one are not skipped
+        Assertions.assertEquals("1:3", RestAssured.post("/persist-or-update/duplicate").asString());
+        RestAssured.delete("/persist-or-update");
+    }
+
     private void callBookEndpoint(String endpoint) {
         RestAssured.defaultParser = Parser.JSON;
         RestAssured.config
@@ -166,6 +203,12 @@ class BookResourceTest {
         list = get(endpoint + "/search/Victor Hugo").as(LIST_OF_BOOK_TYPE_REF);
         Assertions.assertEquals(2, list.size());
 
+        // stream over a cursor, and publisher, reading one document per batch
+        list = get(endpoint + "/stream/Victor Hugo").as(LIST_OF_BOOK_TYPE_REF);
+        Assertions.assertEquals(2, list.size());
+        list = get(endpoint + "/publish/Victor Hugo").as(LIST_OF_BOOK_TYPE_REF);
+        Assertions.assertEquals(2, list.size());
+
         // magic query find("{'author':?1,'title':?1}", author, title)
         BookDTO book = get(endpoint + "/search?author=Victor Hugo&title=Notre-Dame de Paris").as(BookDTO.class);
         Assertions.assertNotNull(book);